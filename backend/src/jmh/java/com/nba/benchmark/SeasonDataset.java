@@ -0,0 +1,144 @@
+package com.nba.benchmark;
+
+import com.nba.cache.GraphResponseCache;
+import com.nba.dto.GraphRequest;
+import com.nba.entity.PlayerStats;
+import com.nba.ingest.SeasonCsv;
+import com.nba.service.AdmissionControl;
+import com.nba.service.AwardCatalog;
+import com.nba.service.GraphComputeExecutor;
+import com.nba.service.GraphService;
+import com.nba.service.SeasonFilter;
+import com.nba.store.ColumnarSeasonStore;
+import com.nba.store.RowList;
+import com.nba.store.SeasonData;
+import com.nba.store.SeasonSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.IntStream;
+
+// Dataset shared by the benchmarks: the last `seasons` seasons of the real data/ CSVs, or the same
+// number of synthetic seasons, loaded into a SeasonData and served by a GraphService wired by hand
+// (no Spring context, response cache disabled so every invocation computes). The compute executor's
+// parallel threshold can be changed with -Dnba.bench.parallel-row-threshold to compare with inline work.
+// The data directory defaults to ../data (the repo's data/ when run from backend/); override with
+// -Dnba.bench.data-dir, passed to the forks through -jvmArgsAppend.
+@State(Scope.Benchmark)
+public class SeasonDataset {
+
+    @Param({"real", "synthetic"})
+    public String dataset;
+
+    @Param({"1", "10", "76"})
+    public int seasons;
+
+    public List<PlayerStats> entities;
+    public SeasonData data;
+    public List<Integer> years;
+    public int firstYear;
+    public int lastYear;
+
+    public ColumnarSeasonStore seasonStore;
+    public AwardCatalog awardCatalog;
+    public GraphService graphService;
+
+    // All seasons' rows as the default request selects them (one row per player-season)
+    public RowList canonicalRows;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        entities = "real".equals(dataset) ? realSeasons(seasons) : SyntheticSeasons.generate(seasons, 2025, 42);
+        data = SeasonData.of(entities);
+        firstYear = data.firstYear();
+        lastYear = data.lastYear();
+        years = IntStream.rangeClosed(firstYear, lastYear).boxed().toList();
+        canonicalRows = select(new GraphRequest());
+
+        List<PlayerStats> rows = entities;
+        seasonStore = new ColumnarSeasonStore();
+        ReflectionTestUtils.setField(seasonStore, "seasonSource", new SeasonSource() {
+            @Override
+            public List<PlayerStats> findAll() {
+                return rows;
+            }
+
+            @Override
+            public String name() {
+                return dataset;
+            }
+
+            @Override
+            public String fingerprint() {
+                return dataset + ":" + rows.size();
+            }
+        });
+        ReflectionTestUtils.setField(seasonStore, "eventPublisher", (ApplicationEventPublisher) event -> { });
+        seasonStore.load();
+
+        awardCatalog = new AwardCatalog();
+        ReflectionTestUtils.setField(awardCatalog, "seasonStore", seasonStore);
+        awardCatalog.load();
+
+        GraphResponseCache responseCache = new GraphResponseCache();
+        ReflectionTestUtils.setField(responseCache, "enabled", false);
+
+        GraphComputeExecutor computeExecutor = new GraphComputeExecutor();
+        ReflectionTestUtils.setField(computeExecutor, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(computeExecutor, "queueCapacity", 64);
+        ReflectionTestUtils.setField(computeExecutor, "parallelRowThreshold",
+            Integer.getInteger("nba.bench.parallel-row-threshold", 8192));
+        ReflectionTestUtils.setField(computeExecutor, "minChunkRows", 2048);
+        computeExecutor.init();
+
+        // Benchmarks measure computation, not admission
+        AdmissionControl admissionControl = new AdmissionControl();
+        ReflectionTestUtils.setField(admissionControl, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(admissionControl, "enabled", false);
+        admissionControl.init();
+
+        graphService = new GraphService();
+        ReflectionTestUtils.setField(graphService, "seasonStore", seasonStore);
+        ReflectionTestUtils.setField(graphService, "responseCache", responseCache);
+        ReflectionTestUtils.setField(graphService, "awardCatalog", awardCatalog);
+        ReflectionTestUtils.setField(graphService, "computeExecutor", computeExecutor);
+        ReflectionTestUtils.setField(graphService, "admissionControl", admissionControl);
+    }
+
+    // Rows of every loaded season passing the request's filters, as GraphService selects them
+    public RowList select(GraphRequest request) {
+        SeasonFilter filter = SeasonFilter.compile(data, request);
+        RowList rows = new RowList();
+        for (int year = firstYear; year <= lastYear; year++) {
+            filter.select(data, data.seasonStart(year), data.seasonEnd(year), rows);
+        }
+        return rows;
+    }
+
+    private static List<PlayerStats> realSeasons(int seasons) throws IOException {
+        Path directory = Path.of(System.getProperty("nba.bench.data-dir", "../data"));
+        SortedMap<Integer, Path> files = SeasonCsv.list(directory);
+        if (files.size() < seasons) {
+            throw new IllegalStateException("Only " + files.size() + " season files in " + directory.toAbsolutePath()
+                + ", " + seasons + " requested");
+        }
+        List<Map.Entry<Integer, Path>> entries = new ArrayList<>(files.entrySet());
+        List<PlayerStats> rows = new ArrayList<>();
+        for (Map.Entry<Integer, Path> file : entries.subList(entries.size() - seasons, entries.size())) {
+            rows.addAll(SeasonCsv.read(file.getValue(), file.getKey()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,136 @@
+package com.nba.benchmark;
+
+import com.nba.entity.PlayerStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Seeded synthetic seasons shaped like the real data: ~560 rows per season, a player pool that turns
+// over, traded players with a combined 2TM/3TM row plus one row per team, a few awards per season,
+// and the stats older seasons lack (3P, GS, ORB/DRB, STL/BLK, TOV) left null before they were tracked.
+public final class SyntheticSeasons {
+
+    private static final String[] TEAMS = {
+        "ATL", "BOS", "BRK", "CHI", "CHO", "CLE", "DAL", "DEN", "DET", "GSW", "HOU", "IND", "LAC", "LAL", "MEM",
+        "MIA", "MIL", "MIN", "NOP", "NYK", "OKC", "ORL", "PHI", "PHO", "POR", "SAC", "SAS", "TOR", "UTA", "WAS"
+    };
+    private static final String[] POSITIONS = {"PG", "SG", "SF", "PF", "C"};
+    private static final String[] PLACED_AWARDS = {"MVP", "DPOY", "ROY", "6MOY", "MIP", "CPOY"};
+    private static final String[] TEAM_AWARDS = {"NBA1", "NBA2", "NBA3", "DEF1", "DEF2", "ROOK1", "ROOK2"};
+
+    private static final int PLAYERS_PER_SEASON = 480;
+    private static final double TRADED_SHARE = 0.08;
+
+    private SyntheticSeasons() {
+    }
+
+    // Seasons lastYear - seasons + 1 .. lastYear
+    public static List<PlayerStats> generate(int seasons, int lastYear, long seed) {
+        Random random = new Random(seed);
+        List<PlayerStats> rows = new ArrayList<>(seasons * 560);
+        int nextPlayer = 0;
+        int[] roster = new int[PLAYERS_PER_SEASON];
+        int[] debut = new int[PLAYERS_PER_SEASON];
+        for (int i = 0; i < roster.length; i++) {
+            roster[i] = nextPlayer++;
+            debut[i] = lastYear - seasons + 1 - random.nextInt(10);
+        }
+
+        for (int year = lastYear - seasons + 1; year <= lastYear; year++) {
+            for (int i = 0; i < roster.length; i++) {
+                // About one player in eight retires each season
+                if (random.nextInt(8) == 0) {
+                    roster[i] = nextPlayer++;
+                    debut[i] = year;
+                }
+                String player = "Player " + roster[i];
+                int age = 20 + (year - debut[i]) + random.nextInt(3);
+                String position = POSITIONS[random.nextInt(POSITIONS.length)];
+                double scale = 0.2 + random.nextDouble() * random.nextDouble() * 1.6;
+                String awards = awards(random, year, scale);
+
+                if (random.nextDouble() < TRADED_SHARE) {
+                    int teams = random.nextInt(8) == 0 ? 3 : 2;
+                    int games = 20 + random.nextInt(60);
+                    rows.add(row(random, year, player, age, teams + "TM", position, games, scale, awards));
+                    for (int t = 0; t < teams; t++) {
+                        rows.add(row(random, year, player, age, TEAMS[random.nextInt(TEAMS.length)], position,
+                            games / teams, scale, null));
+                    }
+                } else {
+                    rows.add(row(random, year, player, age, TEAMS[random.nextInt(TEAMS.length)], position,
+                        1 + random.nextInt(82), scale, awards));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static String awards(Random random, int year, double scale) {
+        if (scale < 1.0 || random.nextInt(4) != 0) {
+            return random.nextInt(40) == 0 ? "AS" : null;
+        }
+        List<String> tokens = new ArrayList<>();
+        tokens.add(PLACED_AWARDS[random.nextInt(PLACED_AWARDS.length)] + "-" + (1 + random.nextInt(12)));
+        if (random.nextBoolean()) tokens.add("AS");
+        if (random.nextBoolean()) tokens.add(TEAM_AWARDS[random.nextInt(TEAM_AWARDS.length)]);
+        return String.join(",", tokens);
+    }
+
+    private static PlayerStats row(Random random, int year, String player, int age, String team, String position,
+                                   int games, double scale, String awards) {
+        PlayerStats stats = new PlayerStats();
+        stats.setYear(year);
+        stats.setPlayer(player);
+        stats.setAge(age);
+        stats.setTeam(team);
+        stats.setPosition(position);
+        stats.setGamesPlayed(games);
+        stats.setAwards(awards);
+
+        double minutes = Math.min(42, 6 + scale * 18 + random.nextGaussian() * 3);
+        double attempts = Math.max(0.5, minutes * 0.4 * scale);
+        double made = attempts * (0.38 + random.nextDouble() * 0.16);
+        double freeThrows = attempts * 0.25;
+        stats.setMinutesPerGame(round(minutes));
+        stats.setFieldGoalsMade(round(made));
+        stats.setFieldGoalsAttempted(round(attempts));
+        stats.setFieldGoalPercentage(round(made / attempts));
+        stats.setTwoPointersMade(round(made * 0.7));
+        stats.setTwoPointersAttempted(round(attempts * 0.65));
+        stats.setTwoPointPercentage(round(0.7 * made / (0.65 * attempts)));
+        stats.setFreeThrowsMade(round(freeThrows * 0.75));
+        stats.setFreeThrowsAttempted(round(freeThrows));
+        stats.setFreeThrowPercentage(0.75);
+        stats.setTotalRebounds(round(minutes * 0.15 * (0.5 + random.nextDouble())));
+        stats.setAssists(round(minutes * 0.1 * (0.3 + random.nextDouble())));
+        stats.setPersonalFouls(round(1 + random.nextDouble() * 2.5));
+        stats.setPoints(round(made * 2.1 + freeThrows * 0.75));
+        stats.setEffectiveFieldGoalPercentage(round(made * 1.05 / attempts));
+
+        // Tracked from the years the league started recording them
+        if (year >= 1974) {
+            stats.setOffensiveRebounds(round(stats.getTotalRebounds() * 0.3));
+            stats.setDefensiveRebounds(round(stats.getTotalRebounds() * 0.7));
+            stats.setSteals(round(random.nextDouble() * 1.8));
+            stats.setBlocks(round(random.nextDouble() * 1.5));
+        }
+        if (year >= 1978) {
+            stats.setTurnovers(round(random.nextDouble() * 3));
+        }
+        if (year >= 1980) {
+            stats.setThreePointersMade(round(made * 0.3));
+            stats.setThreePointersAttempted(round(attempts * 0.35));
+            stats.setThreePointPercentage(round(0.3 * made / (0.35 * attempts)));
+        }
+        if (year >= 1982) {
+            stats.setGamesStarted(random.nextInt(games + 1));
+        }
+        return stats;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.nba.service;
+
+import com.nba.benchmark.SeasonDataset;
+import com.nba.dto.GraphRequest;
+import com.nba.store.RowList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Awards filtering: selecting the rows of a few awards through the per-award bitmaps, and the
+// catalog lookup behind /api/graph/awards
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AwardFilterBenchmark {
+
+    private static final List<String> AWARDS = List.of("MVP-1", "DPOY-1", "AS", "NBA1");
+
+    @Benchmark
+    public RowList selectAwardRows(SeasonDataset dataset) {
+        GraphRequest request = new GraphRequest();
+        request.setAwards(AWARDS);
+        return dataset.select(request);
+    }
+
+    @Benchmark
+    public List<Award> findAwards(SeasonDataset dataset) {
+        return dataset.awardCatalog.find(List.of("MVP", "DPOY", "ROY"), 3, true);
+    }
+}
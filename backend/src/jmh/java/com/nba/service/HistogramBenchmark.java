@@ -0,0 +1,39 @@
+package com.nba.service;
+
+import com.nba.benchmark.SeasonDataset;
+import com.nba.dto.GraphRequest;
+import com.nba.dto.GraphResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Histogram binning over all rows of the dataset, alone and as part of a full (uncached) request
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistogramBenchmark {
+
+    @Benchmark
+    public Histogram binFixed(SeasonDataset dataset) {
+        return Histogram.compute(dataset.data, dataset.canonicalRows, StatAccessor.POINTS,
+            Histogram.Strategy.FIXED, 20, null, null);
+    }
+
+    @Benchmark
+    public Histogram binFreedmanDiaconis(SeasonDataset dataset) {
+        return Histogram.compute(dataset.data, dataset.canonicalRows, StatAccessor.POINTS,
+            Histogram.Strategy.FREEDMAN_DIACONIS, 20, null, null);
+    }
+
+    @Benchmark
+    public GraphResponse generate(SeasonDataset dataset) {
+        GraphRequest request = new GraphRequest();
+        request.setGraphType("histogram");
+        request.setStat("points");
+        request.setYears(dataset.years);
+        return dataset.graphService.generateGraph(request);
+    }
+}
@@ -0,0 +1,34 @@
+package com.nba.service;
+
+import com.nba.benchmark.SeasonDataset;
+import com.nba.dto.GraphRequest;
+import com.nba.store.RowList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Row selection with multi-team duplicates removed (default: one row per player-season, traded
+// players as their 2TM/3TM totals) versus keeping the individual team rows. The dedup itself is
+// precomputed per snapshot; see RowBitmapsBenchmark for that cost.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiTeamBenchmark {
+
+    @Benchmark
+    public RowList selectDeduplicated(SeasonDataset dataset) {
+        GraphRequest request = new GraphRequest();
+        request.setIncludeMultiTeamPlayers(true);
+        return dataset.select(request);
+    }
+
+    @Benchmark
+    public RowList selectPerTeam(SeasonDataset dataset) {
+        GraphRequest request = new GraphRequest();
+        request.setIncludeMultiTeamPlayers(false);
+        return dataset.select(request);
+    }
+}
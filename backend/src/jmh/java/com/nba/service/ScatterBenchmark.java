@@ -0,0 +1,32 @@
+package com.nba.service;
+
+import com.nba.benchmark.SeasonDataset;
+import com.nba.dto.GraphRequest;
+import com.nba.dto.GraphResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Scatter construction (points, player list, missing-data warnings) for all seasons of the dataset.
+// three_point_percentage is missing before 1980, so the real 76-season set also exercises the warnings.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScatterBenchmark {
+
+    @Param({"assists", "three_point_percentage"})
+    public String yAxisStat;
+
+    @Benchmark
+    public GraphResponse generate(SeasonDataset dataset) {
+        GraphRequest request = new GraphRequest();
+        request.setGraphType("scatter");
+        request.setXAxisStat("points");
+        request.setYAxisStat(yAxisStat);
+        request.setYears(dataset.years);
+        return dataset.graphService.generateGraph(request);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nba.service;
+
+import com.nba.benchmark.SeasonDataset;
+import com.nba.entity.PlayerStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of reading one stat for every row of the dataset: through an accessor resolved once
+// (what GraphService does now), resolving the stat name on every value (the old per-value
+// getValueForStat string dispatch), and through the boxed entity getters.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatDispatchBenchmark {
+
+    // A double column and an int column with MISSING sentinels
+    @Param({"points", "age"})
+    public String stat;
+
+    private StatAccessor accessor;
+
+    @Setup(Level.Trial)
+    public void resolve() {
+        accessor = StatAccessor.resolve(stat);
+    }
+
+    @Benchmark
+    public double resolvedColumnRead(SeasonDataset dataset) {
+        double sum = 0;
+        for (int row = 0; row < dataset.data.rowCount(); row++) {
+            double value = accessor.read(dataset.data, row);
+            if (!Double.isNaN(value)) sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double resolvePerValue(SeasonDataset dataset) {
+        double sum = 0;
+        for (int row = 0; row < dataset.data.rowCount(); row++) {
+            double value = StatAccessor.resolve(stat).read(dataset.data, row);
+            if (!Double.isNaN(value)) sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double entityRead(SeasonDataset dataset) {
+        double sum = 0;
+        for (PlayerStats stats : dataset.entities) {
+            Double value = accessor.getValue(stats);
+            if (value != null) sum += value;
+        }
+        return sum;
+    }
+}
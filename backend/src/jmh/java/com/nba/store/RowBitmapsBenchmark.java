@@ -0,0 +1,21 @@
+package com.nba.store;
+
+import com.nba.benchmark.SeasonDataset;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-snapshot cost of the filter bitmaps, including resolving multi-team seasons (canonical rows)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowBitmapsBenchmark {
+
+    @Benchmark
+    public RowBitmaps build(SeasonDataset dataset) {
+        return new RowBitmaps(dataset.data);
+    }
+}
@@ -0,0 +1,455 @@
+package com.nba.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nba.NbaGraphGeneratorApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Closed-loop load test for POST /api/graph/generate with a weighted mix of the three templates:
+// line (player_comparison), histogram (season_distribution) and scatter (season_correlation).
+//
+// By default the application is started in this JVM with the csv profile (no database, seeded from
+// data/); pass --url to drive an already running instance instead (e.g. the default profile against
+// PostgreSQL). Each of --concurrency workers sends requests back to back; requests are drawn from a
+// seeded generator so runs are reproducible. Server-side GC pauses and Hikari connection waits are
+// read as deltas of the actuator metrics over the measured window (the Hikari section is null when
+// the server has no pool). In-process runs share the JVM with the client, so GC includes client work.
+//
+// Admission control (nba.admission.*) is switched off for in-process runs unless --admission=true, so
+// they measure raw throughput; with it on, or against a --url server that has it on, 429/503 rejections
+// are counted apart from errors (with their mean Retry-After) and kept out of the latency samples.
+//
+// Options (--name=value): url, profile (csv), concurrency (16), warmup-seconds (10),
+// duration-seconds (30), mix (line:2,histogram:5,scatter:3), cache (false), admission (false),
+// virtual-threads (false, needs Java 21), seed (42), report (target/loadtest-report.json)
+public class GraphLoadTest {
+
+    private static final String[] HISTOGRAM_STATS = {
+        "points", "assists", "rebounds", "steals", "blocks", "minutes_per_game", "field_goal_percentage",
+        "three_point_percentage", "free_throw_percentage", "turnovers", "age", "games_played"
+    };
+    private static final String[] LINE_STATS = {"points", "assists", "rebounds", "minutes_per_game", "field_goal_percentage"};
+    private static final int FIRST_YEAR = 1980;
+    private static final int LAST_YEAR = 2025;
+
+    private final Map<String, String> options;
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client;
+    private String baseUrl;
+    private List<String> players;
+
+    public GraphLoadTest(Map<String, String> options) {
+        this.options = options;
+        int concurrency = intOption("concurrency", 16);
+        this.client = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(Math.max(2, concurrency)))
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new GraphLoadTest(options).run();
+        // The HTTP client's executor threads would otherwise keep the JVM alive
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        ConfigurableApplicationContext context = null;
+        if (options.containsKey("url")) {
+            baseUrl = options.get("url").replaceAll("/+$", "");
+        } else {
+            context = SpringApplication.run(NbaGraphGeneratorApplication.class,
+                "--spring.profiles.active=" + options.getOrDefault("profile", "csv"),
+                "--server.port=0",
+                "--nba.cache.graph.enabled=" + options.getOrDefault("cache", "false"),
+                "--nba.admission.enabled=" + options.getOrDefault("admission", "false"),
+                "--spring.threads.virtual.enabled=" + options.getOrDefault("virtual-threads", "false"),
+                "--nba.snapshot.path=",
+                "--logging.level.com.nba=INFO");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            players = List.of(mapper.readValue(get("/api/graph/players"), String[].class));
+            Map<String, Integer> mix = parseMix(options.getOrDefault("mix", "line:2,histogram:5,scatter:3"));
+            int concurrency = intOption("concurrency", 16);
+            long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+            System.out.printf("Load test against %s: %d workers, mix %s%n", baseUrl, concurrency, mix);
+            drive(mix, concurrency, seed, Duration.ofSeconds(intOption("warmup-seconds", 10)));
+
+            ServerMetrics before = ServerMetrics.read(this);
+            long start = System.nanoTime();
+            List<Worker> workers = drive(mix, concurrency, seed + 1, Duration.ofSeconds(intOption("duration-seconds", 30)));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            ServerMetrics after = ServerMetrics.read(this);
+
+            ObjectNode report = report(workers, mix, concurrency, seconds, before, after);
+            Path file = Path.of(options.getOrDefault("report", "target/loadtest-report.json"));
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            mapper.writeValue(file.toFile(), report);
+            System.out.println(mapper.writeValueAsString(report));
+            System.out.println("Report written to " + file.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private List<Worker> drive(Map<String, Integer> mix, int concurrency, long seed, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(new Random(seed * 1000 + i), mix, deadline);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "load-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return workers;
+    }
+
+    // One closed-loop client: picks a graph type by weight, sends it, records latency and outcome
+    private class Worker implements Runnable {
+        private final Random random;
+        private final List<String> types = new ArrayList<>();
+        private final long deadline;
+        private final Map<String, Samples> latencies = new TreeMap<>();
+        private final Map<String, Integer> errors = new TreeMap<>();
+        private final Map<String, Rejections> rejections = new TreeMap<>();
+
+        Worker(Random random, Map<String, Integer> mix, long deadline) {
+            this.random = random;
+            this.deadline = deadline;
+            mix.forEach((type, weight) -> {
+                for (int i = 0; i < weight; i++) types.add(type);
+                latencies.put(type, new Samples());
+                errors.put(type, 0);
+                rejections.put(type, new Rejections());
+            });
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                String type = types.get(random.nextInt(types.size()));
+                String body = requestBody(type, random);
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/graph/generate"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .header("Accept-Encoding", "gzip")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 429 || response.statusCode() == 503) {
+                        rejections.get(type).add(response);
+                        continue;
+                    }
+                    if (response.statusCode() != 200) {
+                        errors.merge(type, 1, Integer::sum);
+                        continue;
+                    }
+                } catch (IOException e) {
+                    errors.merge(type, 1, Integer::sum);
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                latencies.get(type).add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private String requestBody(String type, Random random) {
+        ObjectNode request = mapper.createObjectNode();
+        request.put("graphType", type);
+        switch (type) {
+            case "line" -> {
+                request.put("template", "player_comparison");
+                ArrayNode names = request.putArray("players");
+                int count = 1 + random.nextInt(5);
+                for (int i = 0; i < count; i++) {
+                    names.add(players.get(random.nextInt(players.size())));
+                }
+                request.put("xAxisType", random.nextBoolean() ? "age" : "year");
+                request.put("yAxisType", LINE_STATS[random.nextInt(LINE_STATS.length)]);
+            }
+            case "histogram" -> {
+                request.put("template", "season_distribution");
+                request.put("stat", HISTOGRAM_STATS[random.nextInt(HISTOGRAM_STATS.length)]);
+                putYears(request, random);
+                request.put("binCount", 10 + 10 * random.nextInt(3));
+                request.put("includeBinPlayers", random.nextInt(4) != 0);
+            }
+            case "scatter" -> {
+                request.put("template", "season_correlation");
+                request.put("xAxisStat", HISTOGRAM_STATS[random.nextInt(HISTOGRAM_STATS.length)]);
+                request.put("yAxisStat", HISTOGRAM_STATS[random.nextInt(HISTOGRAM_STATS.length)]);
+                putYears(request, random);
+            }
+            default -> throw new IllegalArgumentException("Unknown graph type in mix: " + type);
+        }
+        if (random.nextInt(5) == 0) {
+            request.put("minGamesPlayed", 20);
+        }
+        return request.toString();
+    }
+
+    // Usually a single season, sometimes a span of up to a decade
+    private static void putYears(ObjectNode request, Random random) {
+        int span = random.nextInt(3) == 0 ? 1 + random.nextInt(10) : 1;
+        int first = FIRST_YEAR + random.nextInt(LAST_YEAR - FIRST_YEAR - span + 2);
+        ArrayNode years = request.putArray("years");
+        for (int year = first; year < first + span; year++) {
+            years.add(year);
+        }
+    }
+
+    private ObjectNode report(List<Worker> workers, Map<String, Integer> mix, int concurrency, double seconds,
+                              ServerMetrics before, ServerMetrics after) {
+        ObjectNode report = mapper.createObjectNode();
+        ObjectNode config = report.putObject("config");
+        config.put("url", baseUrl);
+        config.put("inProcess", !options.containsKey("url"));
+        config.put("profile", options.containsKey("url") ? null : options.getOrDefault("profile", "csv"));
+        config.put("responseCache", options.containsKey("url") ? null : options.getOrDefault("cache", "false"));
+        config.put("admission", options.containsKey("url") ? null : options.getOrDefault("admission", "false"));
+        config.put("virtualThreads", options.containsKey("url") ? null : options.getOrDefault("virtual-threads", "false"));
+        config.put("concurrency", concurrency);
+        config.put("durationSeconds", seconds);
+        config.putPOJO("mix", mix);
+        config.put("seed", options.getOrDefault("seed", "42"));
+
+        Samples all = new Samples();
+        int allErrors = 0;
+        Rejections allRejections = new Rejections();
+        ObjectNode byType = mapper.createObjectNode();
+        for (String type : mix.keySet()) {
+            Samples samples = new Samples();
+            int typeErrors = 0;
+            Rejections typeRejections = new Rejections();
+            for (Worker worker : workers) {
+                samples.addAll(worker.latencies.get(type));
+                typeErrors += worker.errors.get(type);
+                typeRejections.addAll(worker.rejections.get(type));
+            }
+            all.addAll(samples);
+            allErrors += typeErrors;
+            allRejections.addAll(typeRejections);
+            byType.set(type, summary(samples, typeErrors, typeRejections, seconds));
+        }
+        report.set("overall", summary(all, allErrors, allRejections, seconds));
+        report.set("byGraphType", byType);
+        report.set("gc", after.gcDelta(before, mapper));
+        report.set("hikari", after.hikariDelta(before, mapper));
+        return report;
+    }
+
+    private ObjectNode summary(Samples samples, int errors, Rejections rejections, double seconds) {
+        samples.sort();
+        ObjectNode node = mapper.createObjectNode();
+        node.put("requests", samples.size());
+        node.put("errors", errors);
+        ObjectNode rejected = node.putObject("rejected");
+        rejected.put("tooManyRequests", rejections.tooManyRequests);
+        rejected.put("serviceUnavailable", rejections.serviceUnavailable);
+        rejected.put("meanRetryAfterSeconds", rejections.retryAfterCount > 0
+            ? (double) rejections.retryAfterSecondsTotal / rejections.retryAfterCount : 0);
+        node.put("throughputRps", samples.size() / seconds);
+        ObjectNode latency = node.putObject("latencyMs");
+        latency.put("mean", samples.mean() / 1e6);
+        for (double p : new double[] {50, 90, 95, 99, 99.9}) {
+            latency.put("p" + (p == Math.rint(p) ? String.valueOf((int) p) : String.valueOf(p).replace(".", "")),
+                samples.percentile(p) / 1e6);
+        }
+        latency.put("max", samples.percentile(100) / 1e6);
+        return node;
+    }
+
+    // Actuator meter values at one point in time; COUNT and TOTAL_TIME are cumulative, MAX is recent
+    private record ServerMetrics(Map<String, Double> gc, Map<String, Double> hikari) {
+
+        static ServerMetrics read(GraphLoadTest test) {
+            return new ServerMetrics(test.meter("jvm.gc.pause"), test.meter("hikaricp.connections.acquire"));
+        }
+
+        JsonNode gcDelta(ServerMetrics before, ObjectMapper mapper) {
+            return delta(gc, before.gc, mapper, "pauses", "totalPauseMs", "maxPauseMs");
+        }
+
+        JsonNode hikariDelta(ServerMetrics before, ObjectMapper mapper) {
+            return delta(hikari, before.hikari, mapper, "acquires", "totalWaitMs", "maxWaitMs");
+        }
+
+        private static JsonNode delta(Map<String, Double> after, Map<String, Double> before, ObjectMapper mapper,
+                                      String count, String total, String max) {
+            if (after == null || before == null) {
+                return mapper.nullNode();
+            }
+            ObjectNode node = mapper.createObjectNode();
+            double counted = after.getOrDefault("COUNT", 0.0) - before.getOrDefault("COUNT", 0.0);
+            double totalMs = (after.getOrDefault("TOTAL_TIME", 0.0) - before.getOrDefault("TOTAL_TIME", 0.0)) * 1000;
+            node.put(count, (long) counted);
+            node.put(total, totalMs);
+            node.put(max, after.getOrDefault("MAX", 0.0) * 1000);
+            node.put(count.equals("pauses") ? "meanPauseMs" : "meanWaitMs", counted > 0 ? totalMs / counted : 0);
+            return node;
+        }
+    }
+
+    // Statistics of an actuator meter (times in seconds), or null when the meter doesn't exist
+    private Map<String, Double> meter(String name) {
+        try {
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            Map<String, Double> values = new HashMap<>();
+            for (JsonNode measurement : mapper.readTree(response.body()).path("measurements")) {
+                values.put(measurement.path("statistic").asText(), measurement.path("value").asDouble());
+            }
+            return values;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private String get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Empty request mix: " + mix);
+        }
+        return weights;
+    }
+
+    // Admission rejections (429 for medium/heavy requests, 503 for light ones) and their Retry-After
+    private static final class Rejections {
+        private int tooManyRequests;
+        private int serviceUnavailable;
+        private long retryAfterSecondsTotal;
+        private int retryAfterCount;
+
+        void add(HttpResponse<?> response) {
+            if (response.statusCode() == 429) {
+                tooManyRequests++;
+            } else {
+                serviceUnavailable++;
+            }
+            response.headers().firstValue("Retry-After").ifPresent(value -> {
+                try {
+                    retryAfterSecondsTotal += Long.parseLong(value.trim());
+                    retryAfterCount++;
+                } catch (NumberFormatException e) {
+                    // An HTTP date; not sent by this server
+                }
+            });
+        }
+
+        void addAll(Rejections other) {
+            tooManyRequests += other.tooManyRequests;
+            serviceUnavailable += other.serviceUnavailable;
+            retryAfterSecondsTotal += other.retryAfterSecondsTotal;
+            retryAfterCount += other.retryAfterCount;
+        }
+    }
+
+    // Growable list of latency samples in nanoseconds
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        double mean() {
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += values[i];
+            }
+            return size > 0 ? (double) sum / size : 0;
+        }
+
+        // Nearest-rank percentile of sorted samples
+        double percentile(double p) {
+            if (size == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100 * size);
+            return values[Math.min(size, Math.max(1, rank)) - 1];
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nba.cache;
+
+import com.nba.dto.GraphRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+// Canonical form of a GraphRequest: only fields that affect the generated graph, with filter lists
+// sorted, "All" entries collapsed to "no filter" and seasons as a sorted set.
+// Built after GraphService has applied its defaults.
+public record GraphCacheKey(
+    String graphType,
+    List<String> players,
+    String xAxisType,
+    String yAxisType,
+    String stat,
+    String xAxisStat,
+    String yAxisStat,
+    List<Integer> years,
+    Integer binCount,
+    String binStrategy,
+    Double minValue,
+    Double maxValue,
+    Boolean includeMultiTeamPlayers,
+    Integer minGamesPlayed,
+    Integer minMinutesPerGame,
+    List<String> positions,
+    List<String> teamsFilter,
+    List<String> awards,
+    List<String> ageRange
+) {
+
+    public static GraphCacheKey of(GraphRequest request) {
+        return new GraphCacheKey(
+            request.getGraphType(),
+            // Player order decides dataset order and colors, so it is kept as requested
+            request.getPlayers() != null ? Collections.unmodifiableList(new ArrayList<>(request.getPlayers())) : List.of(),
+            request.getXAxisType(),
+            request.getYAxisType(),
+            request.getStat(),
+            request.getXAxisStat(),
+            request.getYAxisStat(),
+            normalizeYears(request),
+            request.getBinCount(),
+            request.getBinStrategy(),
+            request.getMinValue(),
+            request.getMaxValue(),
+            request.getIncludeMultiTeamPlayers(),
+            request.getMinGamesPlayed(),
+            request.getMinMinutesPerGame(),
+            normalizeFilter(request.getPositions()),
+            normalizeFilter(request.getTeamsFilter()),
+            normalizeFilter(request.getAwards()),
+            normalizeFilter(request.getAgeRange())
+        );
+    }
+
+    private static List<Integer> normalizeYears(GraphRequest request) {
+        if (request.getYears() != null && !request.getYears().isEmpty()) {
+            TreeSet<Integer> years = new TreeSet<>();
+            request.getYears().stream().filter(Objects::nonNull).forEach(years::add);
+            return List.copyOf(years);
+        }
+        return request.getYear() != null ? List.of(request.getYear()) : List.of();
+    }
+
+    private static List<String> normalizeFilter(List<String> values) {
+        if (values == null || values.isEmpty() || values.contains("All")) {
+            return List.of();
+        }
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String value : values) {
+            if (value != null) sorted.add(value);
+        }
+        return List.copyOf(sorted);
+    }
+}
@@ -0,0 +1,137 @@
+package com.nba.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nba.dto.GraphResponse;
+import com.nba.store.SeasonDataReloadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// Bounded cache of generated graphs keyed by GraphCacheKey.
+// The dataset only changes on reload, so entries are dropped whenever the season store is reloaded.
+// Entries are futures completed by the request thread that computes them: a computation never runs
+// inside the cache's map locks, so a slow graph only blocks requests for that same key.
+@Component
+public class GraphResponseCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${nba.cache.graph.enabled:true}")
+    private boolean enabled;
+
+    // Caffeine can't bound by count and weight at once: each entry costs ENTRY_WEIGHT plus one unit per data
+    // element, so the weight limit caps both the number of entries and the total points held
+    @Value("${nba.cache.graph.maximum-weight:2000000}")
+    private long maximumWeight;
+
+    @Value("${nba.cache.graph.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private static final int ENTRY_WEIGHT = 1000;
+
+    private AsyncCache<GraphCacheKey, GraphResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((GraphCacheKey key, GraphResponse response) -> weigh(response))
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "graphResponses");
+    }
+
+    // The cached graph (waiting for it if another request is computing it), or null on a miss
+    public GraphResponse getIfPresent(GraphCacheKey key) {
+        if (!enabled) {
+            return null;
+        }
+        CompletableFuture<GraphResponse> future = cache.getIfPresent(key);
+        return future != null ? join(future) : null;
+    }
+
+    // Returns the cached graph or computes it in the calling thread and stores it; concurrent identical
+    // requests compute once. A failed computation is not cached.
+    public GraphResponse get(GraphCacheKey key, Function<GraphCacheKey, GraphResponse> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+        CompletableFuture<GraphResponse> pending = new CompletableFuture<>();
+        CompletableFuture<GraphResponse> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            GraphResponse response = loader.apply(key);
+            pending.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    // Rethrows a computation's own exception rather than the CompletionException wrapping it
+    private static GraphResponse join(CompletableFuture<GraphResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @EventListener
+    public void onSeasonDataReloaded(SeasonDataReloadedEvent event) {
+        invalidateAll();
+    }
+
+    private static int weigh(GraphResponse response) {
+        long weight = ENTRY_WEIGHT;
+        if (response.getPoints() != null) {
+            weight += response.getPoints().size();
+        }
+        if (response.getDatasets() != null) {
+            for (GraphResponse.LineDataset dataset : response.getDatasets()) {
+                weight += dataset.getXValues() != null ? dataset.getXValues().size() : 0;
+            }
+        }
+        if (response.getBinCounts() != null) {
+            weight += response.getBinCounts().size();
+        }
+        Map<String, Object> metadata = response.getMetadata();
+        if (metadata != null && metadata.get("binPlayers") instanceof List<?> bins) {
+            for (Object bin : bins) {
+                weight += bin instanceof List<?> players ? players.size() : 0;
+            }
+        }
+        if (metadata != null && metadata.get("playerList") instanceof List<?> players) {
+            weight += players.size();
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+}
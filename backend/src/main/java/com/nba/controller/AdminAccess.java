@@ -0,0 +1,48 @@
+package com.nba.controller;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Gate for the endpoints that rewrite or reload the dataset (/data/import, /data/reload).
+// They are off unless nba.admin.enabled is set, and then only answer requests carrying
+// nba.admin.token in the X-Admin-Token header. An enabled gate without a token refuses everything.
+@Component
+public class AdminAccess {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAccess.class);
+
+    public static final String TOKEN_HEADER = "X-Admin-Token";
+
+    @Value("${nba.admin.enabled:false}")
+    private boolean enabled;
+
+    @Value("${nba.admin.token:}")
+    private String token;
+
+    @PostConstruct
+    public void init() {
+        if (enabled && token.isBlank()) {
+            log.warn("nba.admin.enabled is set without nba.admin.token; admin endpoints will refuse every request");
+        }
+    }
+
+    // null when the request may proceed, else the status to answer with: 404 while the endpoints are
+    // disabled (they don't exist as far as clients can tell), 403 for a missing or wrong token
+    public HttpStatus check(String presentedToken) {
+        if (!enabled) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (token.isBlank() || presentedToken == null
+                || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), presentedToken.getBytes(StandardCharsets.UTF_8))) {
+            return HttpStatus.FORBIDDEN;
+        }
+        return null;
+    }
+}
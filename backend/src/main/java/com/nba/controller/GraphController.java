@@ -1,14 +1,38 @@
 package com.nba.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nba.dto.GraphRequest;
 import com.nba.dto.GraphResponse;
+import com.nba.dto.IngestReport;
+import com.nba.dto.PlayerPage;
+import com.nba.dto.StatSummaryResponse;
+import com.nba.ingest.CsvIngestService;
+import com.nba.metrics.GraphMetricsRecorder;
+import com.nba.metrics.RequestMetrics;
+import com.nba.service.AdmissionControl;
+import com.nba.service.AdmissionRejectedException;
+import com.nba.service.Award;
 import com.nba.service.GraphService;
+import com.nba.service.StatSummaryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.http.HttpStatus;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/graph")
@@ -18,39 +42,338 @@ public class GraphController {
     @Autowired
     private GraphService graphService;
 
+    @Autowired
+    private StatSummaryService statSummaryService;
+
+    // Absent in the csv profile (no database to import into)
+    @Autowired(required = false)
+    private CsvIngestService csvIngestService;
+
+    @Autowired
+    private GraphMetricsRecorder metricsRecorder;
+
+    @Autowired
+    private AdminAccess adminAccess;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${nba.http.cache.max-age-seconds:3600}")
+    private long cacheMaxAgeSeconds;
+
     @PostMapping("/generate")
-    public ResponseEntity<GraphResponse> generateGraph(@RequestBody GraphRequest request) {
+    public ResponseEntity<byte[]> generateGraph(@RequestBody GraphRequest request) throws JsonProcessingException {
+        return renderGraph(request);
+    }
+
+    // Cacheable variant of /generate: the GraphRequest is passed as JSON in the "request" query parameter,
+    // so browsers and CDNs can key on the URL and revalidate with If-None-Match
+    @GetMapping("/generate")
+    public ResponseEntity<byte[]> generateGraphGet(@RequestParam("request") String requestJson, WebRequest webRequest) throws JsonProcessingException {
+        GraphRequest request;
+        try {
+            request = objectMapper.readValue(requestJson, GraphRequest.class);
+        } catch (JsonProcessingException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, "Malformed request parameter");
+        }
+        try {
+            String etag = graphService.graphETag(request);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+            }
+        } catch (IllegalArgumentException e) {
+            // Invalid requests fall through so renderGraph reports the error
+        }
+        return renderGraph(request);
+    }
+
+    private ResponseEntity<byte[]> renderGraph(GraphRequest request) throws JsonProcessingException {
+        RequestMetrics metrics = new RequestMetrics();
         try {
-            GraphResponse response = graphService.generateGraph(request);
-            return ResponseEntity.ok(response);
+            GraphResponse response = graphService.generateGraph(request, metrics);
+            String etag = graphService.graphETag(request);
+
+            // Serialize here rather than in the message converter so the phase and size are measured
+            long serializeStart = metrics.start();
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            metrics.stop(RequestMetrics.Phase.SERIALIZE, serializeStart);
+            metrics.setBytesProduced(body.length);
+            metricsRecorder.record(request.getGraphType(), metrics);
+
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl())
+                .header("Server-Timing", metrics.toServerTiming())
+                .body(body);
+        } catch (AdmissionRejectedException e) {
+            return rejectedResponse(e);
+        } catch (IllegalArgumentException e) {
+            // Unknown graph type or stat name
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new GraphResponse());
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(new GraphResponse()));
         }
     }
 
+    // Player labels of one histogram bin (request as in GET /generate), for clients that generate
+    // histograms with includeBinPlayers=false and load bin members when a bar is hovered
+    @GetMapping("/histogram/bins/{bin}/players")
+    public ResponseEntity<List<String>> getHistogramBinPlayers(@PathVariable int bin,
+                                                               @RequestParam("request") String requestJson,
+                                                               WebRequest webRequest) {
+        try {
+            GraphRequest request = objectMapper.readValue(requestJson, GraphRequest.class);
+            String etag = graphService.graphETag(request);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl())
+                .body(graphService.getHistogramBinPlayers(request, bin));
+        } catch (AdmissionRejectedException e) {
+            return ResponseEntity.status(e.getStatus()).header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds())).build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Streams large scatter/histogram responses straight to the client instead of building the whole
+    // GraphResponse and its byte[] first. Scatter points omit the per-point color/label (see metadata).
+    @PostMapping(value = "/generate/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> generateGraphStream(@RequestBody GraphRequest request) throws JsonProcessingException {
+        try {
+            graphService.validateRequest(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(objectMapper.writeValueAsBytes(Map.of("metadata", Map.of("error", e.getMessage())))));
+        }
+        // Admitted before the 200 is committed; the slot is held until the body has been written
+        AdmissionControl.Permit permit;
+        try {
+            permit = graphService.admit(request);
+        } catch (AdmissionRejectedException e) {
+            return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(objectMapper.writeValueAsBytes(Map.of("metadata", Map.of("error", e.getMessage())))));
+        }
+        StreamingResponseBody body = out -> {
+            RequestMetrics metrics = new RequestMetrics();
+            CountingOutputStream counting = new CountingOutputStream(out);
+            try (permit; JsonGenerator gen = objectMapper.getFactory().createGenerator(counting)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                graphService.streamGraph(request, gen, metrics);
+            }
+            metrics.setBytesProduced(counting.count);
+            metricsRecorder.record(request.getGraphType(), metrics);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
 
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    // 429/503 with Retry-After when the request's cost class is saturated
+    private ResponseEntity<byte[]> rejectedResponse(AdmissionRejectedException e) throws JsonProcessingException {
+        GraphResponse error = new GraphResponse();
+        error.setMetadata(Map.of("error", e.getMessage(), "costClass", e.getCostClass().key()));
+        return ResponseEntity.status(e.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(objectMapper.writeValueAsBytes(error));
+    }
+
+    private ResponseEntity<byte[]> errorResponse(HttpStatus status, String message) throws JsonProcessingException {
+        GraphResponse error = new GraphResponse();
+        error.setMetadata(Map.of("error", message));
+        return ResponseEntity.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(objectMapper.writeValueAsBytes(error));
+    }
+
+    // Responses only change when the dataset version (part of every ETag) changes
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(cacheMaxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+    }
+
+    @Value("${nba.players.search.default-limit:50}")
+    private int defaultSearchLimit;
+
+    @Value("${nba.players.search.max-limit:500}")
+    private int maxSearchLimit;
 
     @GetMapping("/players")
-    public ResponseEntity<List<String>> getPlayers(@RequestParam(required = false) String search) {
+    public ResponseEntity<List<String>> getPlayers(@RequestParam(required = false) String search,
+                                                   @RequestParam(required = false) Integer limit,
+                                                   WebRequest webRequest) {
+        try {
+            String etag = graphService.getDatasetVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+            }
+            List<String> players;
+            if (search == null || search.trim().isEmpty()) {
+                // Full list (kept for existing clients); see /players/page for paginated access
+                players = graphService.searchPlayers(search, limit != null ? Math.max(0, limit) : null);
+            } else {
+                int searchLimit = limit != null ? Math.max(0, Math.min(limit, maxSearchLimit)) : defaultSearchLimit;
+                players = graphService.searchPlayers(search, searchLimit);
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl()).body(players);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/players/page")
+    public ResponseEntity<PlayerPage> getPlayerPage(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    WebRequest webRequest) {
         try {
-            List<String> players = graphService.searchPlayers(search);
-            return ResponseEntity.ok(players);
+            String etag = graphService.getDatasetVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+            }
+            int pageLimit = limit != null ? Math.max(1, Math.min(limit, maxSearchLimit)) : defaultSearchLimit;
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl())
+                .body(graphService.getPlayerPage(cursor, pageLimit));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    // Compact newline-delimited "id<TAB>name" player dictionary, streamed (and gzip-compressed when accepted)
+    @GetMapping(value = "/players/dictionary", produces = "text/plain;charset=UTF-8")
+    public ResponseEntity<StreamingResponseBody> getPlayerDictionary(WebRequest webRequest) {
+        String etag = graphService.getDatasetVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+        }
+        // checkNotModified has already set the ETag; a streamed body would get a second one from .eTag()
+        return ResponseEntity.ok().cacheControl(cacheControl())
+            .body(graphService::writePlayerDictionary);
+    }
+
     @GetMapping("/teams")
-    public ResponseEntity<List<String>> getTeams() {
+    public ResponseEntity<List<String>> getTeams(WebRequest webRequest) {
         try {
+            String etag = graphService.getDatasetVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+            }
             List<String> teams = graphService.getTeams();
-            return ResponseEntity.ok(teams);
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl()).body(teams);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
+    // Award catalog with family and place, e.g. /awards?family=MVP&family=DPOY&maxPlace=3.
+    // By default only the awards offered as filters are returned; all=true lists every award in the data.
+    @GetMapping("/awards")
+    public ResponseEntity<List<Award>> getAwards(@RequestParam(required = false) List<String> family,
+                                                 @RequestParam(required = false) Integer maxPlace,
+                                                 @RequestParam(defaultValue = "false") boolean all,
+                                                 WebRequest webRequest) {
+        String etag = graphService.getDatasetVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl())
+            .body(graphService.findAwards(family, maxPlace, !all));
+    }
+
+    // Summary statistics of one stat over the given seasons (all seasons when omitted),
+    // e.g. /summary?stat=points&years=2023&years=2024&quantiles=0.1,0.5,0.9
+    @GetMapping("/summary")
+    public ResponseEntity<StatSummaryResponse> getSummary(@RequestParam String stat,
+                                                          @RequestParam(required = false) List<Integer> years,
+                                                          @RequestParam(required = false) List<Double> quantiles,
+                                                          WebRequest webRequest) {
+        try {
+            String etag = graphService.getDatasetVersion();
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl()).build();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl())
+                .body(statSummaryService.getSummary(stat, years, quantiles));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    // Rebuilds the in-memory season store after the nba_stats table has been re-imported. Admin only:
+    // every call re-reads the source, rebuilds the indexes and clears the cache
+    @PostMapping("/data/reload")
+    public ResponseEntity<Map<String, Object>> reloadData(@RequestHeader(value = AdminAccess.TOKEN_HEADER, required = false) String adminToken) {
+        HttpStatus denied = adminAccess.check(adminToken);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        try {
+            return ResponseEntity.ok(graphService.reloadData());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Bulk import of every season CSV in the data directory (COPY, one season per task), then reload.
+    // Admin only (see AdminAccess)
+    @PostMapping("/data/import")
+    public ResponseEntity<IngestReport> importData(@RequestHeader(value = AdminAccess.TOKEN_HEADER, required = false) String adminToken) {
+        HttpStatus denied = adminAccess.check(adminToken);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        if (csvIngestService == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        try {
+            return ResponseEntity.ok(csvIngestService.importAll());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 
+    // Re-imports a single season from its CSV, then reloads. Admin only
+    @PostMapping("/data/import/{year}")
+    public ResponseEntity<IngestReport> importSeason(@PathVariable int year,
+                                                     @RequestHeader(value = AdminAccess.TOKEN_HEADER, required = false) String adminToken) {
+        HttpStatus denied = adminAccess.check(adminToken);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        if (csvIngestService == null) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        try {
+            return ResponseEntity.ok(csvIngestService.importSeason(year));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
 
@@ -25,6 +25,8 @@ public class GraphRequest {
     private Integer binCount;
     private Double minValue;
     private Double maxValue;
+    private String binStrategy; // "fixed" (default), "freedman-diaconis"/"fd", "sturges", "quantile"
+    private Boolean includeBinPlayers; // false: omit metadata.binPlayers, fetch bins on demand instead
     
     // Scatter plot specific
     @JsonProperty("xAxisStat")
@@ -157,6 +159,22 @@ public class GraphRequest {
         this.maxValue = maxValue;
     }
     
+    public String getBinStrategy() {
+        return binStrategy;
+    }
+    
+    public void setBinStrategy(String binStrategy) {
+        this.binStrategy = binStrategy;
+    }
+    
+    public Boolean getIncludeBinPlayers() {
+        return includeBinPlayers;
+    }
+    
+    public void setIncludeBinPlayers(Boolean includeBinPlayers) {
+        this.includeBinPlayers = includeBinPlayers;
+    }
+    
     public String getXAxisStat() {
         return xAxisStat;
     }
@@ -0,0 +1,116 @@
+package com.nba.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IngestReport {
+    private List<FileReport> files = new ArrayList<>();
+    private long totalRows;
+    private long totalMillis;
+    private double rowsPerSecond;
+
+    // Throughput of one season file
+    public static class FileReport {
+        private String file;
+        private int year;
+        private long rows;
+        private long bytes;
+        private long parseMillis;
+        private long copyMillis;
+        private double rowsPerSecond;
+
+        public FileReport() {}
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public int getYear() {
+            return year;
+        }
+
+        public void setYear(int year) {
+            this.year = year;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public void setRows(long rows) {
+            this.rows = rows;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public void setBytes(long bytes) {
+            this.bytes = bytes;
+        }
+
+        public long getParseMillis() {
+            return parseMillis;
+        }
+
+        public void setParseMillis(long parseMillis) {
+            this.parseMillis = parseMillis;
+        }
+
+        public long getCopyMillis() {
+            return copyMillis;
+        }
+
+        public void setCopyMillis(long copyMillis) {
+            this.copyMillis = copyMillis;
+        }
+
+        public double getRowsPerSecond() {
+            return rowsPerSecond;
+        }
+
+        public void setRowsPerSecond(double rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+        }
+    }
+
+    // Constructors
+    public IngestReport() {}
+
+    // Getters and Setters
+    public List<FileReport> getFiles() {
+        return files;
+    }
+
+    public void setFiles(List<FileReport> files) {
+        this.files = files;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
@@ -0,0 +1,43 @@
+package com.nba.dto;
+
+import java.util.List;
+
+public class PlayerPage {
+    private List<String> items;
+    private String nextCursor; // null on the last page
+    private int total;
+    
+    // Constructors
+    public PlayerPage() {}
+    
+    public PlayerPage(List<String> items, String nextCursor, int total) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.total = total;
+    }
+    
+    // Getters and Setters
+    public List<String> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,93 @@
+package com.nba.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class StatSummaryResponse {
+    private String stat;
+    private String label;
+    private List<Integer> years;
+    private long count;
+    // Null when no season has a value for the stat
+    private Double min;
+    private Double max;
+    private Double mean;
+    private Double stdDev;
+    private Map<String, Double> quantiles; // "0.5" -> median (t-digest estimate)
+
+    // Constructors
+    public StatSummaryResponse() {}
+
+    // Getters and Setters
+    public String getStat() {
+        return stat;
+    }
+
+    public void setStat(String stat) {
+        this.stat = stat;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public List<Integer> getYears() {
+        return years;
+    }
+
+    public void setYears(List<Integer> years) {
+        this.years = years;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public void setMin(Double min) {
+        this.min = min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public Double getMean() {
+        return mean;
+    }
+
+    public void setMean(Double mean) {
+        this.mean = mean;
+    }
+
+    public Double getStdDev() {
+        return stdDev;
+    }
+
+    public void setStdDev(Double stdDev) {
+        this.stdDev = stdDev;
+    }
+
+    public Map<String, Double> getQuantiles() {
+        return quantiles;
+    }
+
+    public void setQuantiles(Map<String, Double> quantiles) {
+        this.quantiles = quantiles;
+    }
+}
@@ -0,0 +1,245 @@
+package com.nba.ingest;
+
+import com.nba.dto.IngestReport;
+import com.nba.entity.PlayerStats;
+import com.nba.store.ColumnarSeasonStore;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Loads the season CSVs of the data directory into nba_stats with PostgreSQL COPY.
+// Seasons are imported in parallel, one season per task and connection; each season replaces its
+// previous rows in a single transaction, so a single season can be re-imported on its own.
+// Not available in the csv profile, which has no database.
+@Service
+@Profile("!csv")
+public class CsvIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvIngestService.class);
+
+    // nba_stats columns written by COPY, in order (id and created_at keep their defaults)
+    private static final Map<String, Function<PlayerStats, Object>> COPY_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COPY_COLUMNS.put("year", PlayerStats::getYear);
+        COPY_COLUMNS.put("player", PlayerStats::getPlayer);
+        COPY_COLUMNS.put("age", PlayerStats::getAge);
+        COPY_COLUMNS.put("team", PlayerStats::getTeam);
+        COPY_COLUMNS.put("position", PlayerStats::getPosition);
+        COPY_COLUMNS.put("games_played", PlayerStats::getGamesPlayed);
+        COPY_COLUMNS.put("games_started", PlayerStats::getGamesStarted);
+        COPY_COLUMNS.put("minutes_per_game", PlayerStats::getMinutesPerGame);
+        COPY_COLUMNS.put("field_goals_made", PlayerStats::getFieldGoalsMade);
+        COPY_COLUMNS.put("field_goals_attempted", PlayerStats::getFieldGoalsAttempted);
+        COPY_COLUMNS.put("field_goal_percentage", PlayerStats::getFieldGoalPercentage);
+        COPY_COLUMNS.put("three_pointers_made", PlayerStats::getThreePointersMade);
+        COPY_COLUMNS.put("three_pointers_attempted", PlayerStats::getThreePointersAttempted);
+        COPY_COLUMNS.put("three_point_percentage", PlayerStats::getThreePointPercentage);
+        COPY_COLUMNS.put("two_pointers_made", PlayerStats::getTwoPointersMade);
+        COPY_COLUMNS.put("two_pointers_attempted", PlayerStats::getTwoPointersAttempted);
+        COPY_COLUMNS.put("two_point_percentage", PlayerStats::getTwoPointPercentage);
+        COPY_COLUMNS.put("effective_field_goal_percentage", PlayerStats::getEffectiveFieldGoalPercentage);
+        COPY_COLUMNS.put("free_throws_made", PlayerStats::getFreeThrowsMade);
+        COPY_COLUMNS.put("free_throws_attempted", PlayerStats::getFreeThrowsAttempted);
+        COPY_COLUMNS.put("free_throw_percentage", PlayerStats::getFreeThrowPercentage);
+        COPY_COLUMNS.put("offensive_rebounds", PlayerStats::getOffensiveRebounds);
+        COPY_COLUMNS.put("defensive_rebounds", PlayerStats::getDefensiveRebounds);
+        COPY_COLUMNS.put("total_rebounds", PlayerStats::getTotalRebounds);
+        COPY_COLUMNS.put("assists", PlayerStats::getAssists);
+        COPY_COLUMNS.put("steals", PlayerStats::getSteals);
+        COPY_COLUMNS.put("blocks", PlayerStats::getBlocks);
+        COPY_COLUMNS.put("turnovers", PlayerStats::getTurnovers);
+        COPY_COLUMNS.put("personal_fouls", PlayerStats::getPersonalFouls);
+        COPY_COLUMNS.put("points", PlayerStats::getPoints);
+        COPY_COLUMNS.put("awards", PlayerStats::getAwards);
+    }
+
+    private static final String COPY_SQL = "COPY nba_stats (" + String.join(", ", COPY_COLUMNS.keySet())
+        + ") FROM STDIN WITH (FORMAT csv)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ColumnarSeasonStore seasonStore;
+
+    @Value("${nba.ingest.data-dir:../data}")
+    private String dataDir;
+
+    @Value("${nba.ingest.parallelism:4}")
+    private int parallelism;
+
+    @Value("${nba.ingest.copy-batch-rows:1000}")
+    private int copyBatchRows;
+
+    // Re-imports every season file, drops seasons that no longer have a file, then reloads the store
+    public IngestReport importAll() throws IOException {
+        SortedMap<Integer, Path> files = SeasonCsv.list(Path.of(dataDir));
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No season files found in " + Path.of(dataDir).toAbsolutePath());
+        }
+        IngestReport report = importSeasons(files);
+        deleteSeasonsExcept(files.keySet());
+        seasonStore.reload();
+        return report;
+    }
+
+    // Replaces a single season from its file, then reloads the store
+    public IngestReport importSeason(int year) throws IOException {
+        Path file = SeasonCsv.list(Path.of(dataDir)).get(year);
+        if (file == null) {
+            throw new IllegalArgumentException("No season file for " + year + " in " + Path.of(dataDir).toAbsolutePath());
+        }
+        IngestReport report = importSeasons(new TreeMap<>(Map.of(year, file)));
+        seasonStore.reload();
+        return report;
+    }
+
+    private IngestReport importSeasons(SortedMap<Integer, Path> files) throws IOException {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())));
+        try {
+            List<Future<IngestReport.FileReport>> tasks = new ArrayList<>();
+            for (Map.Entry<Integer, Path> file : files.entrySet()) {
+                tasks.add(executor.submit(() -> importFile(file.getValue(), file.getKey())));
+            }
+            IngestReport report = new IngestReport();
+            for (Future<IngestReport.FileReport> task : tasks) {
+                report.getFiles().add(task.get());
+            }
+            report.setTotalRows(report.getFiles().stream().mapToLong(IngestReport.FileReport::getRows).sum());
+            report.setTotalMillis((System.nanoTime() - start) / 1_000_000);
+            report.setRowsPerSecond(perSecond(report.getTotalRows(), System.nanoTime() - start));
+            log.info("Imported {} rows from {} season files in {} ms ({} rows/s)",
+                report.getTotalRows(), files.size(), report.getTotalMillis(), Math.round(report.getRowsPerSecond()));
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Import failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private IngestReport.FileReport importFile(Path file, int year) throws IOException, SQLException {
+        long parseStart = System.nanoTime();
+        List<PlayerStats> rows = SeasonCsv.read(file, year);
+        long parseNanos = System.nanoTime() - parseStart;
+
+        long copyStart = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (PreparedStatement delete = connection.prepareStatement("DELETE FROM nba_stats WHERE year = ?")) {
+                    delete.setInt(1, year);
+                    delete.executeUpdate();
+                }
+                copy(connection, rows);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        long copyNanos = System.nanoTime() - copyStart;
+
+        IngestReport.FileReport report = new IngestReport.FileReport();
+        report.setFile(file.getFileName().toString());
+        report.setYear(year);
+        report.setRows(rows.size());
+        report.setBytes(Files.size(file));
+        report.setParseMillis(parseNanos / 1_000_000);
+        report.setCopyMillis(copyNanos / 1_000_000);
+        report.setRowsPerSecond(perSecond(rows.size(), parseNanos + copyNanos));
+        log.info("Imported {} ({} rows, {} KB): parse {} ms, copy {} ms, {} rows/s", report.getFile(), report.getRows(),
+            report.getBytes() / 1024, report.getParseMillis(), report.getCopyMillis(), Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    // Streams rows to COPY ... FROM STDIN in CSV format, copyBatchRows rows per write
+    private void copy(Connection connection, List<PlayerStats> rows) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder batch = new StringBuilder(copyBatchRows * 160);
+            int batched = 0;
+            for (PlayerStats row : rows) {
+                appendRow(batch, row);
+                if (++batched == copyBatchRows) {
+                    write(copyIn, batch);
+                    batched = 0;
+                }
+            }
+            write(copyIn, batch);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder batch) throws SQLException {
+        if (batch.length() > 0) {
+            byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            batch.setLength(0);
+        }
+    }
+
+    // CSV COPY format: unquoted empty field is NULL, strings are always quoted
+    private static void appendRow(StringBuilder out, PlayerStats row) {
+        boolean first = true;
+        for (Function<PlayerStats, Object> column : COPY_COLUMNS.values()) {
+            if (!first) out.append(',');
+            first = false;
+            Object value = column.apply(row);
+            if (value instanceof String text) {
+                out.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else if (value != null) {
+                out.append(value);
+            }
+        }
+        out.append('\n');
+    }
+
+    private void deleteSeasonsExcept(Set<Integer> years) {
+        String placeholders = years.stream().map(year -> "?").collect(Collectors.joining(", "));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM nba_stats WHERE year NOT IN (" + placeholders + ")")) {
+            int index = 1;
+            for (int year : years) {
+                delete.setInt(index++, year);
+            }
+            int removed = delete.executeUpdate();
+            if (removed > 0) {
+                log.info("Removed {} rows of seasons without a data file", removed);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not remove stale seasons", e);
+        }
+    }
+
+    private static double perSecond(long rows, long nanos) {
+        return nanos > 0 ? rows * 1_000_000_000.0 / nanos : 0;
+    }
+}
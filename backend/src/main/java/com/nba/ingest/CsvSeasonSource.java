@@ -0,0 +1,67 @@
+package com.nba.ingest;
+
+import com.nba.entity.PlayerStats;
+import com.nba.store.SeasonSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// csv profile: the season CSVs of the data directory are the dataset; no database is involved
+@Component
+@Profile("csv")
+public class CsvSeasonSource implements SeasonSource {
+
+    @Value("${nba.ingest.data-dir:../data}")
+    private String dataDir;
+
+    @Override
+    public List<PlayerStats> findAll() {
+        try {
+            // One season file per task
+            return SeasonCsv.list(Path.of(dataDir)).entrySet().parallelStream()
+                .flatMap(file -> read(file).stream())
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list season files in " + Path.of(dataDir).toAbsolutePath(), e);
+        }
+    }
+
+    private static List<PlayerStats> read(Map.Entry<Integer, Path> file) {
+        try {
+            return SeasonCsv.read(file.getValue(), file.getKey());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file.getValue(), e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "csv";
+    }
+
+    // File count and a checksum over the name, size and modification time of every season file
+    @Override
+    public String fingerprint() {
+        try {
+            Collection<Path> files = SeasonCsv.list(Path.of(dataDir)).values();
+            CRC32C crc = new CRC32C();
+            for (Path file : files) {
+                String entry = file.getFileName() + "/" + Files.size(file) + "/" + Files.getLastModifiedTime(file).toMillis() + "\n";
+                crc.update(entry.getBytes(StandardCharsets.UTF_8));
+            }
+            return "csv:" + files.size() + ":" + Long.toHexString(crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list season files in " + Path.of(dataDir).toAbsolutePath(), e);
+        }
+    }
+}
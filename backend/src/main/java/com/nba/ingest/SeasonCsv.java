@@ -0,0 +1,120 @@
+package com.nba.ingest;
+
+import com.nba.entity.PlayerStats;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Maps one data/NBA_<year>_per_game_stats.csv file to PlayerStats rows.
+// Columns are matched by header name, since older seasons lack 3P, GS, MP, ORB/DRB, STL/BLK and TOV.
+// Blank cells become null, as in the original import script.
+public final class SeasonCsv {
+
+    public static final Pattern FILE_NAME = Pattern.compile("NBA_(\\d{4})_per_game_stats\\.csv");
+
+    private static final Map<String, BiConsumer<PlayerStats, String>> COLUMNS = new HashMap<>();
+
+    static {
+        COLUMNS.put("Player", PlayerStats::setPlayer);
+        COLUMNS.put("Age", (stats, value) -> stats.setAge(toInt(value)));
+        COLUMNS.put("Team", PlayerStats::setTeam);
+        COLUMNS.put("Pos", PlayerStats::setPosition);
+        COLUMNS.put("G", (stats, value) -> stats.setGamesPlayed(toInt(value)));
+        COLUMNS.put("GS", (stats, value) -> stats.setGamesStarted(toInt(value)));
+        COLUMNS.put("MP", (stats, value) -> stats.setMinutesPerGame(toDouble(value)));
+        COLUMNS.put("FG", (stats, value) -> stats.setFieldGoalsMade(toDouble(value)));
+        COLUMNS.put("FGA", (stats, value) -> stats.setFieldGoalsAttempted(toDouble(value)));
+        COLUMNS.put("FG%", (stats, value) -> stats.setFieldGoalPercentage(toDouble(value)));
+        COLUMNS.put("3P", (stats, value) -> stats.setThreePointersMade(toDouble(value)));
+        COLUMNS.put("3PA", (stats, value) -> stats.setThreePointersAttempted(toDouble(value)));
+        COLUMNS.put("3P%", (stats, value) -> stats.setThreePointPercentage(toDouble(value)));
+        COLUMNS.put("2P", (stats, value) -> stats.setTwoPointersMade(toDouble(value)));
+        COLUMNS.put("2PA", (stats, value) -> stats.setTwoPointersAttempted(toDouble(value)));
+        COLUMNS.put("2P%", (stats, value) -> stats.setTwoPointPercentage(toDouble(value)));
+        COLUMNS.put("eFG%", (stats, value) -> stats.setEffectiveFieldGoalPercentage(toDouble(value)));
+        COLUMNS.put("FT", (stats, value) -> stats.setFreeThrowsMade(toDouble(value)));
+        COLUMNS.put("FTA", (stats, value) -> stats.setFreeThrowsAttempted(toDouble(value)));
+        COLUMNS.put("FT%", (stats, value) -> stats.setFreeThrowPercentage(toDouble(value)));
+        COLUMNS.put("ORB", (stats, value) -> stats.setOffensiveRebounds(toDouble(value)));
+        COLUMNS.put("DRB", (stats, value) -> stats.setDefensiveRebounds(toDouble(value)));
+        COLUMNS.put("TRB", (stats, value) -> stats.setTotalRebounds(toDouble(value)));
+        COLUMNS.put("AST", (stats, value) -> stats.setAssists(toDouble(value)));
+        COLUMNS.put("STL", (stats, value) -> stats.setSteals(toDouble(value)));
+        COLUMNS.put("BLK", (stats, value) -> stats.setBlocks(toDouble(value)));
+        COLUMNS.put("TOV", (stats, value) -> stats.setTurnovers(toDouble(value)));
+        COLUMNS.put("PF", (stats, value) -> stats.setPersonalFouls(toDouble(value)));
+        COLUMNS.put("PTS", (stats, value) -> stats.setPoints(toDouble(value)));
+        COLUMNS.put("Awards", PlayerStats::setAwards);
+    }
+
+    private SeasonCsv() {
+    }
+
+    // Season year from a file name like NBA_2024_per_game_stats.csv, empty for other files
+    public static OptionalInt yearOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? OptionalInt.of(Integer.parseInt(matcher.group(1))) : OptionalInt.empty();
+    }
+
+    // Season files of a data directory, by year
+    public static SortedMap<Integer, Path> list(Path directory) throws IOException {
+        SortedMap<Integer, Path> files = new TreeMap<>();
+        try (var paths = Files.list(directory)) {
+            paths.forEach(path -> yearOf(path).ifPresent(year -> files.put(year, path)));
+        }
+        return files;
+    }
+
+    public static List<PlayerStats> read(Path file, int year) throws IOException {
+        try (CsvReader csv = new CsvReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                return List.of();
+            }
+            List<BiConsumer<PlayerStats, String>> setters = new ArrayList<>(header.size());
+            for (String name : header) {
+                setters.add(COLUMNS.get(name.trim()));
+            }
+
+            List<PlayerStats> rows = new ArrayList<>(1024);
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                PlayerStats stats = new PlayerStats();
+                stats.setYear(year);
+                for (int i = 0; i < record.size() && i < setters.size(); i++) {
+                    String value = record.get(i).trim();
+                    if (setters.get(i) != null && !value.isEmpty()) {
+                        setters.get(i).accept(stats, value);
+                    }
+                }
+                if (stats.getPlayer() != null) {
+                    rows.add(stats);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static Integer toInt(String value) {
+        try {
+            return (int) Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Double toDouble(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
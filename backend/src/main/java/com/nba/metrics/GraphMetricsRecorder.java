@@ -0,0 +1,53 @@
+package com.nba.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Publishes RequestMetrics to Micrometer (exposed through /actuator/metrics and /actuator/prometheus)
+@Component
+public class GraphMetricsRecorder {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void record(String graphType, RequestMetrics metrics) {
+        String type = graphType != null ? graphType : "unknown";
+
+        Timer.builder("graph.request")
+            .description("End-to-end graph generation time, including serialization")
+            .tag("graphType", type)
+            .tag("cache", metrics.isCacheHit() ? "hit" : "miss")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(metrics.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+        for (RequestMetrics.Phase phase : RequestMetrics.Phase.values()) {
+            Timer.builder("graph.phase")
+                .description("Time spent in each graph generation phase")
+                .tag("graphType", type)
+                .tag("phase", phase.key())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(metrics.getPhaseNanos(phase), TimeUnit.NANOSECONDS);
+        }
+
+        summary("graph.rows.scanned", "Rows examined per graph request", type, "rows").record(metrics.getRowsScanned());
+        summary("graph.rows.emitted", "Data points emitted per graph request", type, "rows").record(metrics.getRowsEmitted());
+        summary("graph.response.size", "Serialized response size", type, "bytes").record(metrics.getBytesProduced());
+    }
+
+    private DistributionSummary summary(String name, String description, String graphType, String unit) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit(unit)
+            .tag("graphType", graphType)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,132 @@
+package com.nba.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Per-request performance counters. One instance is created for each graph request and passed
+// down the call chain, so concurrent requests never share state.
+public class RequestMetrics {
+
+    public enum Phase {
+        QUERY, FILTER, AGGREGATE, SERIALIZE;
+
+        public String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long endNanos;
+    // Streamed responses serialize while generating, so finish() comes after the SERIALIZE phase
+    private boolean serializedBeforeFinish;
+    private long rowsScanned;
+    private long rowsEmitted;
+    private long recordsProcessed;
+    private long bytesProduced;
+    private boolean cacheHit;
+
+    // Returns a timestamp to hand back to stop() once the phase completes
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void stop(Phase phase, long startedAt) {
+        phaseNanos[phase.ordinal()] += System.nanoTime() - startedAt;
+        if (phase == Phase.SERIALIZE && endNanos == 0) {
+            serializedBeforeFinish = true;
+        }
+    }
+
+    // Marks the end of graph generation (serialization is timed separately)
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    public void addRowsScanned(long rows) {
+        rowsScanned += rows;
+    }
+
+    public void addRowsEmitted(long rows) {
+        rowsEmitted += rows;
+    }
+
+    public void addRecordsProcessed(long records) {
+        recordsProcessed += records;
+    }
+
+    public void setBytesProduced(long bytes) {
+        bytesProduced = bytes;
+    }
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+
+    public boolean isCacheHit() {
+        return cacheHit;
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long getExecutionNanos() {
+        return (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    // Generation plus serialization, counting serialization once whether it ran before finish()
+    // (streamed) or after it (buffered)
+    public long getTotalNanos() {
+        return getExecutionNanos() + (serializedBeforeFinish ? 0 : phaseNanos[Phase.SERIALIZE.ordinal()]);
+    }
+
+    public long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    public long getRowsEmitted() {
+        return rowsEmitted;
+    }
+
+    public long getRecordsProcessed() {
+        return recordsProcessed;
+    }
+
+    public long getBytesProduced() {
+        return bytesProduced;
+    }
+
+    // Shape of metadata.performance in GraphResponse
+    public Map<String, Object> toMetadata() {
+        long executionTimeMs = getExecutionNanos() / 1_000_000;
+        Map<String, Object> phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            if (phase != Phase.SERIALIZE) {
+                phases.put(phase.key() + "Ms", phaseNanos[phase.ordinal()] / 1_000_000.0);
+            }
+        }
+
+        Map<String, Object> performance = new LinkedHashMap<>();
+        performance.put("executionTimeMs", executionTimeMs);
+        performance.put("executionTimeSeconds", String.format("%.2f", executionTimeMs / 1000.0));
+        performance.put("totalRecordsProcessed", recordsProcessed);
+        performance.put("rowsScanned", rowsScanned);
+        performance.put("rowsEmitted", rowsEmitted);
+        performance.put("cacheHit", cacheHit);
+        performance.put("phases", phases);
+        return performance;
+    }
+
+    // Server-Timing header value, includes serialization which happens after metadata is built
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (header.length() > 0) header.append(", ");
+            header.append(phase.key()).append(";dur=")
+                .append(String.format("%.3f", phaseNanos[phase.ordinal()] / 1_000_000.0));
+        }
+        header.append(", total;dur=").append(String.format("%.3f", getExecutionNanos() / 1_000_000.0));
+        return header.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.nba.metrics;
+
+import com.nba.store.ColumnarSeasonStore;
+import com.nba.store.SeasonData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+// Logs startup time and steady-state heap once the application is ready, so the database-backed
+// and csv profiles can be compared on the same dataset. The values are also published as gauges.
+// The heap figure includes uncollected garbage unless nba.startup.report.gc (a debug switch for
+// profile comparisons) forces a collection first.
+@Component
+public class StartupReport {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupReport.class);
+
+    @Autowired
+    private ColumnarSeasonStore seasonStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${nba.startup.report.gc:false}")
+    private boolean collectFirst;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        long startupMillis = event.getTimeTaken() != null
+            ? event.getTimeTaken().toMillis()
+            : ManagementFactory.getRuntimeMXBean().getUptime();
+        if (collectFirst) {
+            // The figure is then the retained heap (snapshot, indexes, Spring context), not garbage
+            System.gc();
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        SeasonData data = seasonStore.current();
+
+        String threads = Threading.VIRTUAL.isActive(event.getApplicationContext().getEnvironment()) ? "virtual" : "platform";
+        log.info("Started from {} source in {} ms on {} threads: {} rows, heap used {}{} MB (committed {} MB)",
+            seasonStore.sourceName(), startupMillis, threads, data.rowCount(), collectFirst ? "after GC " : "",
+            heap.getUsed() / (1024 * 1024), heap.getCommitted() / (1024 * 1024));
+
+        Gauge.builder("nba.startup.heap.used", heap, MemoryUsage::getUsed)
+            .description("Heap used once the application was ready (after a forced GC with nba.startup.report.gc)")
+            .tag("source", seasonStore.sourceName())
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+}
@@ -64,6 +64,10 @@ public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long>
     
 
     
+    // Row count and highest id, the season snapshot's fingerprint of the table
+    @Query("SELECT COUNT(ps), MAX(ps.id) FROM PlayerStats ps")
+    List<Object[]> countAndMaxId();
+
     // Find all unique awards
     @Query("SELECT DISTINCT unnest(string_to_array(ps.awards, ',')) FROM PlayerStats ps WHERE ps.awards IS NOT NULL AND ps.awards != '' ORDER BY 1")
     List<String> findAllAwards();
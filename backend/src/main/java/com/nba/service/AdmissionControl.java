@@ -0,0 +1,156 @@
+package com.nba.service;
+
+import com.nba.dto.GraphRequest;
+import com.nba.store.SeasonData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Per-cost-class concurrency limits for graph computation (cache hits are not admitted, they don't compute).
+// A request waits at most max-wait-ms for a slot of its class, and only if fewer than max-queue requests
+// of that class are already waiting; otherwise it is rejected at once with AdmissionRejectedException,
+// so a burst of all-season scatters can't hold every thread while cheap requests queue behind them.
+// Active, queued, admitted and rejected counts are published as graph.admission.* tagged by class.
+@Component
+public class AdmissionControl {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${nba.admission.enabled:true}")
+    private boolean enabled;
+
+    // GraphCost.value() boundaries between light/medium and medium/heavy
+    @Value("${nba.admission.medium-cost:4000}")
+    private long mediumCost;
+
+    @Value("${nba.admission.heavy-cost:20000}")
+    private long heavyCost;
+
+    @Value("${nba.admission.limit.light:32}")
+    private int lightLimit;
+
+    @Value("${nba.admission.limit.medium:8}")
+    private int mediumLimit;
+
+    @Value("${nba.admission.limit.heavy:2}")
+    private int heavyLimit;
+
+    @Value("${nba.admission.max-queue:16}")
+    private int maxQueue;
+
+    @Value("${nba.admission.max-wait-ms:100}")
+    private long maxWaitMillis;
+
+    @Value("${nba.admission.retry-after-seconds.light:1}")
+    private long lightRetryAfter;
+
+    @Value("${nba.admission.retry-after-seconds.medium:2}")
+    private long mediumRetryAfter;
+
+    @Value("${nba.admission.retry-after-seconds.heavy:5}")
+    private long heavyRetryAfter;
+
+    private final Map<GraphCost.CostClass, Lane> lanes = new EnumMap<>(GraphCost.CostClass.class);
+
+    // Slots, waiters and counters of one cost class
+    private static final class Lane {
+        final int limit;
+        final long retryAfterSeconds;
+        final Semaphore slots;
+        final AtomicInteger queued = new AtomicInteger();
+        Counter admitted;
+        Counter rejected;
+
+        Lane(int limit, long retryAfterSeconds) {
+            this.limit = Math.max(1, limit);
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.slots = new Semaphore(this.limit, true);
+        }
+    }
+
+    // Held while a graph is computed; closing it frees the slot
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    // Returned while admission is disabled, and for callers that already hold a permit
+    public static final Permit NO_PERMIT = () -> { };
+
+    @PostConstruct
+    public void init() {
+        lanes.put(GraphCost.CostClass.LIGHT, new Lane(lightLimit, lightRetryAfter));
+        lanes.put(GraphCost.CostClass.MEDIUM, new Lane(mediumLimit, mediumRetryAfter));
+        lanes.put(GraphCost.CostClass.HEAVY, new Lane(heavyLimit, heavyRetryAfter));
+        lanes.forEach((costClass, lane) -> {
+            String key = costClass.key();
+            Gauge.builder("graph.admission.active", lane, l -> l.limit - l.slots.availablePermits())
+                .description("Graph computations in progress")
+                .tag("class", key)
+                .register(meterRegistry);
+            Gauge.builder("graph.admission.queued", lane.queued, AtomicInteger::get)
+                .description("Graph requests waiting for a slot")
+                .tag("class", key)
+                .register(meterRegistry);
+            lane.admitted = Counter.builder("graph.admission.admitted").tag("class", key).register(meterRegistry);
+            lane.rejected = Counter.builder("graph.admission.rejected")
+                .description("Graph requests turned away with 429/503")
+                .tag("class", key)
+                .register(meterRegistry);
+        });
+    }
+
+    public GraphCost.CostClass classify(GraphRequest request, SeasonData data) {
+        return GraphCost.estimate(request, data).classify(mediumCost, heavyCost);
+    }
+
+    // Takes a slot for the request's cost class or throws AdmissionRejectedException.
+    // request must have its defaults applied.
+    public Permit acquire(GraphRequest request, SeasonData data) {
+        if (!enabled) {
+            return NO_PERMIT;
+        }
+        GraphCost.CostClass costClass = classify(request, data);
+        Lane lane = lanes.get(costClass);
+        if (!lane.slots.tryAcquire()) {
+            if (lane.queued.incrementAndGet() > maxQueue) {
+                lane.queued.decrementAndGet();
+                throw reject(costClass, lane);
+            }
+            try {
+                if (!lane.slots.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                    throw reject(costClass, lane);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject(costClass, lane);
+            } finally {
+                lane.queued.decrementAndGet();
+            }
+        }
+        lane.admitted.increment();
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                lane.slots.release();
+            }
+        };
+    }
+
+    private static AdmissionRejectedException reject(GraphCost.CostClass costClass, Lane lane) {
+        lane.rejected.increment();
+        return new AdmissionRejectedException(costClass, lane.retryAfterSeconds);
+    }
+}
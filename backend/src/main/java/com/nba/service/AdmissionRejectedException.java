@@ -0,0 +1,29 @@
+package com.nba.service;
+
+import org.springframework.http.HttpStatus;
+
+// Thrown when a graph request's cost class has no free slot within the allowed wait.
+// Light requests map to 503 (the server as a whole is saturated), heavier ones to 429.
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final GraphCost.CostClass costClass;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(GraphCost.CostClass costClass, long retryAfterSeconds) {
+        super("Too many " + costClass.key() + " graph requests in progress, retry in " + retryAfterSeconds + " s");
+        this.costClass = costClass;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public GraphCost.CostClass getCostClass() {
+        return costClass;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return costClass == GraphCost.CostClass.LIGHT ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
@@ -0,0 +1,62 @@
+package com.nba.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// One award token of the awards column, parsed once: "MVP-2" is family MVP, place 2; "NBA1" is
+// family NBA, place 1; "AS" has no place.
+public record Award(String name, String family, Integer place) {
+
+    public static Award parse(String token) {
+        String name = token.trim();
+        int dash = name.lastIndexOf('-');
+        if (dash > 0) {
+            Integer place = parsePlace(name.substring(dash + 1));
+            if (place != null) {
+                return new Award(name, name.substring(0, dash), place);
+            }
+            return new Award(name, name, null);
+        }
+        // All-NBA and All-Defense teams carry the place without a dash (NBA1, DEF2)
+        for (String family : new String[] {"NBA", "DEF"}) {
+            if (name.startsWith(family)) {
+                return new Award(name, family, parsePlace(name.substring(family.length())));
+            }
+        }
+        return new Award(name, name, null);
+    }
+
+    private static Integer parsePlace(String digits) {
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Whether the award is offered as a filter: top 5 voting places for MVP, DPOY, ROY, 6MOY and other
+    // numbered awards, All-NBA 1st-3rd, All-Defense 1st-2nd, MIP winner only; unnumbered awards always
+    @JsonIgnore
+    public boolean isListed() {
+        if (name.startsWith("MVP-") || name.startsWith("DPOY-") || name.startsWith("6MOY-") || name.startsWith("ROY-")) {
+            return place != null && place <= 5;
+        }
+        if (name.startsWith("NBA")) return place != null && place <= 3;
+        if (name.startsWith("DEF")) return place != null && place <= 2;
+        if (name.startsWith("MIP-")) return place != null && place == 1;
+        return place == null || place <= 5;
+    }
+
+    // Display order: MVP, All-Star, DPOY, All-NBA, All-Defense, ROY, 6MOY, MIP, then everything else
+    @JsonIgnore
+    public int order() {
+        if (name.startsWith("MVP-")) return 1;
+        if (name.startsWith("AS")) return 2;
+        if (name.startsWith("DPOY-")) return 3;
+        if (name.startsWith("NBA")) return 4;
+        if (name.startsWith("DEF")) return 5;
+        if (name.startsWith("ROY-")) return 6;
+        if (name.startsWith("6MOY-")) return 7;
+        if (name.startsWith("MIP-")) return 8;
+        return 999;
+    }
+}
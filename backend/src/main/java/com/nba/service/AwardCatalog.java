@@ -0,0 +1,81 @@
+package com.nba.service;
+
+import com.nba.store.ColumnarSeasonStore;
+import com.nba.store.SeasonData;
+import com.nba.store.SeasonDataReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Awards of the season store, parsed into family/place and sorted once per snapshot from its award
+// dictionary. "Listed" awards are the ones offered as filter options (see Award.isListed).
+@Component
+public class AwardCatalog {
+
+    private static final Comparator<Award> DISPLAY_ORDER =
+        Comparator.comparingInt(Award::order).thenComparing(Award::name);
+
+    @Autowired
+    private ColumnarSeasonStore seasonStore;
+
+    private volatile Catalog catalog = new Catalog(List.of(), List.of(), List.of(), Map.of());
+
+    // All awards and listed awards in display order, plus all awards of each family
+    private record Catalog(List<Award> all, List<Award> listed, List<String> listedNames, Map<String, List<Award>> byFamily) {
+    }
+
+    @PostConstruct
+    public void load() {
+        // The store has already loaded; its reload events only cover later snapshots
+        rebuild(seasonStore.current());
+    }
+
+    @EventListener
+    public void onSeasonDataReloaded(SeasonDataReloadedEvent event) {
+        rebuild(event.getData());
+    }
+
+    private void rebuild(SeasonData data) {
+        List<Award> all = data.awards().stream()
+            .map(Award::parse)
+            .sorted(DISPLAY_ORDER)
+            .toList();
+        Map<String, List<Award>> byFamily = all.stream()
+            .collect(Collectors.groupingBy(Award::family, Collectors.toUnmodifiableList()));
+        List<Award> listed = all.stream().filter(Award::isListed).toList();
+        catalog = new Catalog(all, listed, listed.stream().map(Award::name).toList(), byFamily);
+    }
+
+    // Listed awards in display order
+    public List<Award> getAwards() {
+        return catalog.listed();
+    }
+
+    public List<String> getAwardNames() {
+        return catalog.listedNames();
+    }
+
+    // Awards of the given families (all families when empty) with a place of at most maxPlace
+    // (unplaced awards such as All-Star always pass), in display order
+    public List<Award> find(Collection<String> families, Integer maxPlace, boolean listedOnly) {
+        Catalog current = catalog;
+        List<Award> candidates;
+        if (families == null || families.isEmpty()) {
+            candidates = listedOnly ? current.listed() : current.all();
+        } else {
+            candidates = new ArrayList<>();
+            for (String family : new TreeSet<>(families)) {
+                candidates.addAll(current.byFamily().getOrDefault(family, List.of()));
+            }
+        }
+        return candidates.stream()
+            .filter(award -> !listedOnly || award.isListed())
+            .filter(award -> maxPlace == null || award.place() == null || award.place() <= maxPlace)
+            .sorted(DISPLAY_ORDER)
+            .toList();
+    }
+}
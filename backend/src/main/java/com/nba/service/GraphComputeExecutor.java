@@ -0,0 +1,276 @@
+package com.nba.service;
+
+import com.nba.store.RowList;
+import com.nba.store.SeasonData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Dedicated, bounded executor for graph aggregation. Work is split into chunks of whole seasons and
+// only goes parallel when it covers at least nba.compute.parallel-row-threshold rows; smaller work
+// runs in the calling request thread, which also runs the first chunk itself, and runs any chunk the
+// full queue can't take (so a saturated pool degrades to sequential work instead of failing).
+// Pool size, queue depth and utilization are published as executor.* (name=graphCompute) and
+// graph.compute.* metrics.
+//
+// With spring.threads.virtual.enabled on a Java 21+ runtime, chunks run on virtual threads instead, one
+// per chunk, with at most nba.compute.virtual.max-concurrent-chunks (default: four per processor) in
+// flight across all requests; chunks beyond that run in the request thread. On older runtimes the flag
+// only produces a startup warning. A chunk failure cancels (interrupts) its siblings before the error
+// reaches the caller; a cancelled chunk keeps its permit until it has actually stopped.
+@Component
+public class GraphComputeExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphComputeExecutor.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    // 0: one thread per available processor
+    @Value("${nba.compute.threads:0}")
+    private int threads;
+
+    @Value("${nba.compute.queue-capacity:64}")
+    private int queueCapacity;
+
+    // Below this many rows the fork/join handoff costs more than the work (see ScatterBenchmark)
+    @Value("${nba.compute.parallel-row-threshold:8192}")
+    private int parallelRowThreshold;
+
+    @Value("${nba.compute.min-chunk-rows:2048}")
+    private int minChunkRows;
+
+    // 0: four per available processor
+    @Value("${nba.compute.virtual.max-concurrent-chunks:0}")
+    private int maxConcurrentChunks;
+
+    private ExecutorService executor;
+    // Platform mode only
+    private ThreadPoolExecutor pool;
+    // Virtual thread mode only: chunks in flight across all requests
+    private Semaphore chunkPermits;
+    private int parallelism;
+    private Counter parallelRuns;
+    private Counter inlineRuns;
+
+    // Work over the contiguous index range [from, to) of a row list
+    public interface RangeTask<T> {
+        T apply(int from, int to);
+    }
+
+    @PostConstruct
+    public void init() {
+        parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (environment != null && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled requires Java 21, this is Java {}; request handling and graph compute "
+                + "stay on platform threads", Runtime.version().feature());
+        }
+        ExecutorService virtualThreads = environment != null && Threading.VIRTUAL.isActive(environment)
+            ? newVirtualThreadPerTaskExecutor() : null;
+
+        if (virtualThreads != null) {
+            executor = virtualThreads;
+            int permits = maxConcurrentChunks > 0 ? maxConcurrentChunks : 4 * Runtime.getRuntime().availableProcessors();
+            chunkPermits = new Semaphore(permits);
+            Gauge.builder("graph.compute.utilization", chunkPermits, semaphore -> (double) (permits - semaphore.availablePermits()) / permits)
+                .description("Share of graph compute chunk permits in use")
+                .register(meterRegistry);
+            log.info("Graph compute on virtual threads, at most {} concurrent chunks", permits);
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            pool = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "graph-compute-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+            ExecutorServiceMetrics.monitor(meterRegistry, pool, "graphCompute");
+            Gauge.builder("graph.compute.utilization", pool, p -> (double) p.getActiveCount() / p.getMaximumPoolSize())
+                .description("Share of graph compute threads busy")
+                .register(meterRegistry);
+            log.info("Graph compute on {} platform threads", parallelism);
+        }
+        parallelRuns = runs("parallel");
+        inlineRuns = runs("inline");
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() where the runtime has it (Java 21+), else null
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("spring.threads.virtual.enabled is set but this runtime has no virtual threads; using a platform pool");
+            return null;
+        }
+    }
+
+    private Counter runs(String mode) {
+        return Counter.builder("graph.compute.runs")
+            .description("Aggregations run split across the compute executor or inline in the request thread")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Runs task over ranges of rows (in year order, as selected for a graph) split at season
+    // boundaries; results are in row order, a single result when the work stays inline
+    public <T> List<T> mapRows(SeasonData data, RowList rows, RangeTask<T> task) {
+        int chunks = chunkCount(rows.size());
+        if (chunks <= 1) {
+            inlineRuns.increment();
+            return List.of(task.apply(0, rows.size()));
+        }
+        List<int[]> ranges = new ArrayList<>(chunks);
+        int from = 0;
+        for (int i = 1; i < chunks && from < rows.size(); i++) {
+            int to = Math.max(from + 1, (int) ((long) rows.size() * i / chunks));
+            // Move the cut to the next season boundary
+            while (to < rows.size() && data.year(rows.get(to)) == data.year(rows.get(to - 1))) {
+                to++;
+            }
+            if (to >= rows.size()) break;
+            ranges.add(new int[] {from, to});
+            from = to;
+        }
+        ranges.add(new int[] {from, rows.size()});
+        return run(ranges, range -> task.apply(range[0], range[1]));
+    }
+
+    // Runs task over groups of consecutive requested seasons holding similar row counts;
+    // results are in year order, a single result for the whole list when the work stays inline
+    public <T> List<T> mapSeasons(SeasonData data, List<Integer> years, Function<List<Integer>, T> task) {
+        long total = 0;
+        for (int year : years) {
+            total += data.seasonEnd(year) - data.seasonStart(year);
+        }
+        int chunks = chunkCount(total);
+        if (chunks <= 1 || years.size() < 2) {
+            inlineRuns.increment();
+            return List.of(task.apply(years));
+        }
+        List<List<Integer>> groups = new ArrayList<>(chunks);
+        long target = total / chunks;
+        long rowsInGroup = 0;
+        int start = 0;
+        for (int i = 0; i < years.size(); i++) {
+            rowsInGroup += data.seasonEnd(years.get(i)) - data.seasonStart(years.get(i));
+            if (rowsInGroup >= target && groups.size() < chunks - 1 && i + 1 < years.size()) {
+                groups.add(years.subList(start, i + 1));
+                start = i + 1;
+                rowsInGroup = 0;
+            }
+        }
+        groups.add(years.subList(start, years.size()));
+        return run(groups, task);
+    }
+
+    private int chunkCount(long rows) {
+        if (rows < parallelRowThreshold) {
+            return 1;
+        }
+        // One chunk per pool thread (the request thread takes one of them), so a single-core pool stays inline
+        return (int) Math.max(1, Math.min(parallelism, rows / Math.max(1, minChunkRows)));
+    }
+
+    private <C, T> List<T> run(List<C> chunks, Function<C, T> task) {
+        if (chunks.size() == 1) {
+            inlineRuns.increment();
+            return List.of(task.apply(chunks.get(0)));
+        }
+        parallelRuns.increment();
+        List<Future<T>> futures = new ArrayList<>(chunks.size() - 1);
+        try {
+            for (C chunk : chunks.subList(1, chunks.size())) {
+                futures.add(submit(() -> task.apply(chunk)));
+            }
+            // The request thread works on the first chunk instead of waiting idle
+            List<T> results = new ArrayList<>(chunks.size());
+            results.add(task.apply(chunks.get(0)));
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            futures.clear();
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while aggregating graph data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Graph aggregation failed", e.getCause());
+        } finally {
+            // Only left non-empty when a chunk failed: stop the others
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private <T> Future<T> submit(Supplier<T> chunk) {
+        if (chunkPermits == null) {
+            return executor.submit(chunk::get);
+        }
+        if (!chunkPermits.tryAcquire()) {
+            // Permits exhausted: this request's chunk runs in its own thread
+            return CompletableFuture.completedFuture(chunk.get());
+        }
+        // The permit is released exactly once: by the chunk when it ends, or by done() when the task was
+        // cancelled before it started. done() also runs when a running chunk is interrupted, which
+        // doesn't stop it, so it must not release then.
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return chunk.get();
+            } finally {
+                chunkPermits.release();
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (isCancelled() && claimed.compareAndSet(false, true)) {
+                    chunkPermits.release();
+                }
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+            throw e;
+        }
+        return task;
+    }
+}
@@ -0,0 +1,61 @@
+package com.nba.service;
+
+import com.nba.dto.GraphRequest;
+import com.nba.store.SeasonData;
+
+import java.util.Objects;
+import java.util.TreeSet;
+
+// Estimated work of a graph request: rows read times stats per row. Season graphs use the exact row
+// count of the requested seasons (histograms add one per bin written); line graphs the average number
+// of seasons per player.
+public record GraphCost(long rows, int stats) {
+
+    public enum CostClass {
+        LIGHT, MEDIUM, HEAVY;
+
+        public String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    // request must have its defaults applied (graph type set)
+    public static GraphCost estimate(GraphRequest request, SeasonData data) {
+        switch (request.getGraphType()) {
+            case "line": {
+                int players = request.getPlayers() != null ? request.getPlayers().size() : 0;
+                double rowsPerPlayer = data.playerCount() > 0 ? (double) data.rowCount() / data.playerCount() : 0;
+                return new GraphCost(Math.round(players * rowsPerPlayer), 2);
+            }
+            case "histogram":
+                return new GraphCost(seasonRows(request, data) + (request.getBinCount() != null ? request.getBinCount() : 0), 1);
+            case "scatter":
+                return new GraphCost(seasonRows(request, data), 2);
+            default:
+                return new GraphCost(0, 0);
+        }
+    }
+
+    private static long seasonRows(GraphRequest request, SeasonData data) {
+        TreeSet<Integer> years = new TreeSet<>();
+        if (request.getYears() != null && !request.getYears().isEmpty()) {
+            request.getYears().stream().filter(Objects::nonNull).forEach(years::add);
+        } else if (request.getYear() != null) {
+            years.add(request.getYear());
+        }
+        long rows = 0;
+        for (int year : years) {
+            rows += data.seasonEnd(year) - data.seasonStart(year);
+        }
+        return rows;
+    }
+
+    public long value() {
+        return rows * stats;
+    }
+
+    public CostClass classify(long mediumCost, long heavyCost) {
+        long value = value();
+        return value >= heavyCost ? CostClass.HEAVY : value >= mediumCost ? CostClass.MEDIUM : CostClass.LIGHT;
+    }
+}
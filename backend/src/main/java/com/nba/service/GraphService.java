@@ -1,41 +1,122 @@
 package com.nba.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.nba.cache.GraphCacheKey;
+import com.nba.cache.GraphResponseCache;
 import com.nba.dto.GraphRequest;
 import com.nba.dto.GraphResponse;
+import com.nba.dto.PlayerPage;
 
-import com.nba.entity.PlayerStats;
-import com.nba.repository.PlayerStatsRepository;
+import com.nba.metrics.RequestMetrics;
+import com.nba.store.ColumnarSeasonStore;
+import com.nba.store.RowList;
+import com.nba.store.SeasonData;
+import com.nba.store.StatColumn;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.time.Instant;
 
 @Service
 public class GraphService {
     
     @Autowired
-    private PlayerStatsRepository playerStatsRepository;
+    private ColumnarSeasonStore seasonStore;
     
-    // Performance tracking
-    private long startTime;
-    private long endTime;
-    private int totalRecordsProcessed;
-    private int sqlQueriesCount = 0;
+    @Autowired
+    private GraphResponseCache responseCache;
+    
+    @Autowired
+    private AwardCatalog awardCatalog;
 
+    @Autowired
+    private GraphComputeExecutor computeExecutor;
 
+    @Autowired
+    private AdmissionControl admissionControl;
     
     public GraphResponse generateGraph(GraphRequest request) {
-        // Reset performance tracking
-        startTime = System.currentTimeMillis();
-        totalRecordsProcessed = 0;
-        sqlQueriesCount = 0;
+        return generateGraph(request, new RequestMetrics());
+    }
+    
+    public GraphResponse generateGraph(GraphRequest request, RequestMetrics metrics) {
+        return generateGraph(request, metrics, false);
+    }
+
+    // admitted: the caller already holds an admission permit for this request (see admit)
+    private GraphResponse generateGraph(GraphRequest request, RequestMetrics metrics, boolean admitted) {
+        GraphResponse cached = cachedGraph(request, metrics, admitted);
+        
+        // Add performance metrics to a copy so the cached response is never modified
+        metrics.finish();
+        GraphResponse result = copyOf(cached);
+        Map<String, Object> metadata = cached.getMetadata() != null ? new HashMap<>(cached.getMetadata()) : new HashMap<>();
+        
+        // Clients that fetch bin members on demand (see getHistogramBinPlayers) skip the labels
+        if (Boolean.FALSE.equals(request.getIncludeBinPlayers())) {
+            metadata.remove("binPlayers");
+        }
+        metadata.put("performance", metrics.toMetadata());
+        result.setMetadata(metadata);
         
+        return result;
+    }
+
+    private GraphResponse cachedGraph(GraphRequest request, RequestMetrics metrics, boolean admitted) {
         GraphResponse response = new GraphResponse();
         response.setGraphType(request.getGraphType());
         
+        applyDefaults(request);
+        
+        // Identical requests (after defaults) are answered from the response cache
+        GraphCacheKey cacheKey = GraphCacheKey.of(request);
+        GraphResponse hit = responseCache.getIfPresent(cacheKey);
+        if (hit != null) {
+            metrics.setCacheHit(true);
+            return hit;
+        }
+        // Only misses take an admission slot, before the cache is asked to compute: a rejection is thrown
+        // before any work is done, and waiting for a slot holds no cache entry
+        boolean[] computed = new boolean[1];
+        try (AdmissionControl.Permit permit = admitted ? AdmissionControl.NO_PERMIT : admissionControl.acquire(request, seasonStore.current())) {
+            GraphResponse cached = responseCache.get(cacheKey, key -> {
+                computed[0] = true;
+                return computeGraph(request, response, metrics);
+            });
+            metrics.setCacheHit(!computed[0]);
+            return cached;
+        }
+    }
+
+    // Player labels of a single histogram bin, for clients that load bin members on demand
+    @SuppressWarnings("unchecked")
+    public List<String> getHistogramBinPlayers(GraphRequest request, int bin) {
+        if (!"histogram".equals(request.getGraphType())) {
+            throw new IllegalArgumentException("Bin players are only available for histograms");
+        }
+        GraphResponse histogram = cachedGraph(request, new RequestMetrics(), false);
+        Object bins = histogram.getMetadata() != null ? histogram.getMetadata().get("binPlayers") : null;
+        if (!(bins instanceof List<?> binList) || bin < 0 || bin >= binList.size()) {
+            throw new IllegalArgumentException("Bin out of range: " + bin);
+        }
+        return new ArrayList<>((List<String>) binList.get(bin));
+    }
+
+    // Fills in the per-graph-type defaults for missing fields (mutates the request)
+    private void applyDefaults(GraphRequest request) {
+        if (request.getGraphType() == null) {
+            throw new IllegalArgumentException("Missing graph type");
+        }
+        if (request.getIncludeMultiTeamPlayers() == null) {
+            // One row per player-season (traded players as 2TM/3TM totals)
+            request.setIncludeMultiTeamPlayers(true);
+        }
+        
         // Set default values for missing fields
         switch (request.getGraphType()) {
             case "line":
@@ -59,6 +140,18 @@ public class GraphService {
                      stat = "points";
                      request.setStat(stat);
                  }
+                 if (request.getBinCount() == null) {
+                     request.setBinCount(20);
+                 }
+                 if (request.getBinCount() < 1 || request.getBinCount() > Histogram.MAX_BINS) {
+                     throw new IllegalArgumentException("binCount must be between 1 and " + Histogram.MAX_BINS);
+                 }
+                 if (request.getMinValue() != null && request.getMaxValue() != null
+                         && request.getMinValue() > request.getMaxValue()) {
+                     throw new IllegalArgumentException("minValue must not exceed maxValue");
+                 }
+                 // Canonical strategy name, so "FD" and "freedman-diaconis" share a cache entry
+                 request.setBinStrategy(Histogram.Strategy.resolve(request.getBinStrategy()).getName());
                  break;
             case "scatter":
                 // Use default values if not provided
@@ -75,58 +168,80 @@ public class GraphService {
                 }
                 break;
         }
+    }
+
+    // Strong validator for a graph: dataset version plus a digest of the canonical request
+    public String graphETag(GraphRequest request) {
+        applyDefaults(request);
+        String canonical = seasonStore.current().version() + "|" + GraphCacheKey.of(request);
+        // Omitting bin players changes the body but not the cached graph
+        if (Boolean.FALSE.equals(request.getIncludeBinPlayers())) {
+            canonical += "|noBinPlayers";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String getDatasetVersion() {
+        return seasonStore.current().version();
+    }
 
-        GraphResponse result;
+    private GraphResponse computeGraph(GraphRequest request, GraphResponse response, RequestMetrics metrics) {
         switch (request.getGraphType()) {
             case "line":
-                result = generateLineGraph(request, response);
-                break;
+                return generateLineGraph(request, response, metrics);
             case "histogram":
-                result = generateHistogram(request, response);
-                break;
+                return generateHistogram(request, response, metrics);
             case "scatter":
-                result = generateScatterPlot(request, response);
-                break;
+                return generateScatterPlot(request, response, metrics);
             default:
                 throw new IllegalArgumentException("Unsupported graph type: " + request.getGraphType());
         }
-        
-        // Add performance metrics
-        endTime = System.currentTimeMillis();
-        long executionTime = endTime - startTime;
-        
-        Map<String, Object> metadata = result.getMetadata() != null ? result.getMetadata() : new HashMap<>();
-        
-        metadata.put("performance", Map.of(
-            "executionTimeMs", executionTime,
-            "executionTimeSeconds", String.format("%.2f", executionTime / 1000.0),
-            "totalRecordsProcessed", totalRecordsProcessed,
-            "sqlQueriesCount", sqlQueriesCount
-        ));
-        result.setMetadata(metadata);
-        
-        return result;
     }
 
-    private GraphResponse generateLineGraph(GraphRequest request, GraphResponse response) {
+    private GraphResponse copyOf(GraphResponse source) {
+        GraphResponse copy = new GraphResponse();
+        copy.setGraphType(source.getGraphType());
+        copy.setTitle(source.getTitle());
+        copy.setXAxisLabel(source.getXAxisLabel());
+        copy.setYAxisLabel(source.getYAxisLabel());
+        copy.setDatasets(source.getDatasets());
+        copy.setBinEdges(source.getBinEdges());
+        copy.setBinCounts(source.getBinCounts());
+        copy.setPoints(source.getPoints());
+        copy.setSqlQuery(source.getSqlQuery());
+        return copy;
+    }
+
+    private GraphResponse generateLineGraph(GraphRequest request, GraphResponse response, RequestMetrics metrics) {
         List<GraphResponse.LineDataset> datasets = new ArrayList<>();
         
+        // Stat names are resolved once; unknown stats are rejected before any rows are read
+        StatAccessor xAccessor = StatAccessor.resolve(request.getXAxisType());
+        StatAccessor yAccessor = StatAccessor.resolve(request.getYAxisType());
+        
         if (request.getPlayers() != null) {
+            SeasonData data = seasonStore.current();
+            // All requested players are loaded together from the store's player index
+            List<RowList> playerRows = getPlayerData(data, request.getPlayers(), request, metrics);
+            
             for (int i = 0; i < request.getPlayers().size(); i++) {
                 String player = request.getPlayers().get(i);
-                List<PlayerStats> playerData = getPlayerData(player, request);
-    
+                RowList rows = playerRows.get(i);
+                long aggregateStart = metrics.start();
                 
                 List<Double> xValues = new ArrayList<>();
                 List<Double> yValues = new ArrayList<>();
                 
-                for (PlayerStats stat : playerData) {
-                    Double xValue = getValueForAxis(stat, request.getXAxisType());
-                    Double yValue = getValueForAxis(stat, request.getYAxisType());
-                    
-
+                for (int j = 0; j < rows.size(); j++) {
+                    double xValue = xAccessor.read(data, rows.get(j));
+                    double yValue = yAccessor.read(data, rows.get(j));
                     
-                    if (xValue != null && yValue != null) {
+                    if (!Double.isNaN(xValue) && !Double.isNaN(yValue)) {
                         xValues.add(xValue);
                         yValues.add(yValue);
                     }
@@ -151,8 +266,6 @@ public class GraphService {
                     sortedYValues.add(pair.getValue());
                 }
                 
-
-                
                 if (!sortedXValues.isEmpty()) {
                     GraphResponse.LineDataset dataset = new GraphResponse.LineDataset();
                     dataset.setLabel(player);
@@ -161,7 +274,9 @@ public class GraphService {
                     dataset.setBorderColor(getColorForIndex(i));
                     dataset.setFill(false);
                     datasets.add(dataset);
+                    metrics.addRowsEmitted(sortedXValues.size());
                 }
+                metrics.stop(RequestMetrics.Phase.AGGREGATE, aggregateStart);
             }
         }
         
@@ -176,159 +291,82 @@ public class GraphService {
         return response;
     }
 
-    private GraphResponse generateHistogram(GraphRequest request, GraphResponse response) {
-        List<PlayerStats> data = new ArrayList<>();
-        
-        // Handle multiple seasons for histograms
-        if (request.getYears() != null && !request.getYears().isEmpty()) {
-            for (Integer year : request.getYears()) {
-                List<PlayerStats> yearData = getSeasonData(year, request.getStat(), request);
-                data.addAll(yearData);
-            }
-        } else if (request.getYear() != null) {
-            data = getSeasonData(request.getYear(), request.getStat(), request);
-        }
-        
-        // Optimized histogram binning - single pass through data
-        int binCount = request.getBinCount() != null ? request.getBinCount() : 20;
+    private GraphResponse generateHistogram(GraphRequest request, GraphResponse response, RequestMetrics metrics) {
+        StatAccessor statAccessor = StatAccessor.resolve(request.getStat());
+        SeasonData data = seasonStore.current();
+        // All requested seasons are served by one range scan with filters compiled once
+        RowList rows = getSeasonData(data, getRequestedYears(request), request, metrics);
         
-        // Pre-calculate all values and find min/max in single pass
-        List<Double> values = new ArrayList<>();
-        double min = Double.MAX_VALUE;
-        double max = Double.MIN_VALUE;
-        int totalPlayers = data.size();
-        int validPlayers = 0;
-        
-        for (PlayerStats stat : data) {
-            Double value = getValueForStat(stat, request.getStat());
-            if (value != null) {
-                values.add(value);
-                validPlayers++;
-                if (value < min) min = value;
-                if (value > max) max = value;
-            }
-        }
+        long aggregateStart = metrics.start();
+        Histogram histogram = Histogram.compute(data, rows, statAccessor,
+            Histogram.Strategy.resolve(request.getBinStrategy()), request.getBinCount(), request.getMinValue(), request.getMaxValue());
         
-        if (values.isEmpty()) {
+        if (histogram.isEmpty()) {
             response.setBinEdges(new ArrayList<>());
             response.setBinCounts(new ArrayList<>());
+            metrics.stop(RequestMetrics.Phase.AGGREGATE, aggregateStart);
             return response;
         }
         
-        double binWidth = (max - min) / binCount;
-        
-        // Initialize bins
-        List<Double> binEdges = new ArrayList<>();
-        List<Integer> binCounts = new ArrayList<>();
-        List<List<String>> binPlayers = new ArrayList<>();
-        
-        for (int i = 0; i <= binCount; i++) {
-            binEdges.add(min + i * binWidth);
-        }
-        
-        // Initialize bin counts and player lists
-        for (int i = 0; i < binCount; i++) {
-            binCounts.add(0);
-            binPlayers.add(new ArrayList<>());
-        }
-        
-        // Single pass binning - much faster than multiple stream operations
-        for (PlayerStats stat : data) {
-            Double value = getValueForStat(stat, request.getStat());
-            if (value != null) {
-                int binIndex = (int) Math.min((value - min) / binWidth, binCount - 1);
-                if (binIndex >= 0 && binIndex < binCount) {
-                    binCounts.set(binIndex, binCounts.get(binIndex) + 1);
-                    binPlayers.get(binIndex).add(stat.getPlayer() + " (" + stat.getYear() + ") - " + String.format("%.1f", value));
-                }
-            }
-        }
-        
-        response.setBinEdges(binEdges);
-        response.setBinCounts(binCounts);
+        response.setBinEdges(histogram.edgeList());
+        response.setBinCounts(histogram.countList());
+        metrics.addRowsEmitted(histogram.validRows());
         
-        // Add metadata for frontend axis labels and tooltips
+        // Add metadata for frontend axis labels and tooltips; bin player labels are rendered lazily
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("binPlayers", binPlayers);
+        metadata.put("binPlayers", histogram.binPlayerLists());
         metadata.put("stat", request.getStat());
+        metadata.put("binStrategy", Histogram.Strategy.resolve(request.getBinStrategy()).getName());
+        if (histogram.outOfRange() > 0) {
+            metadata.put("outOfRange", histogram.outOfRange());
+        }
         
         // Add data availability warnings
-        if (validPlayers < totalPlayers) {
-            Map<String, Object> warnings = new HashMap<>();
-            warnings.put("totalPlayers", totalPlayers);
-            warnings.put("validPlayers", validPlayers);
-            
-            String warningMessage = String.format(
-                "Note: %d out of %d players excluded due to missing %s data. " +
-                "This may be because some years don't track this statistic.",
-                totalPlayers - validPlayers, totalPlayers, getAxisLabel(request.getStat())
-            );
-            warnings.put("message", warningMessage);
-            
-            metadata.put("dataWarnings", warnings);
+        if (histogram.validRows() < histogram.totalRows()) {
+            metadata.put("dataWarnings", histogramWarnings(histogram.totalRows(), histogram.validRows(), statAccessor));
         }
         
         response.setMetadata(metadata);
+        metrics.stop(RequestMetrics.Phase.AGGREGATE, aggregateStart);
         
         return response;
     }
 
-    private GraphResponse generateScatterPlot(GraphRequest request, GraphResponse response) {
-        List<PlayerStats> data = new ArrayList<>();
-        
-        // Handle multiple seasons for scatter plots
-        if (request.getYears() != null && !request.getYears().isEmpty()) {
-            for (Integer year : request.getYears()) {
-                List<PlayerStats> yearData = getSeasonData(year, null, request);
-                data.addAll(yearData);
-            }
-        } else if (request.getYear() != null) {
-            data = getSeasonData(request.getYear(), null, request);
-        }
+    private GraphResponse generateScatterPlot(GraphRequest request, GraphResponse response, RequestMetrics metrics) {
+        StatAccessor xAccessor = StatAccessor.resolve(request.getXAxisStat());
+        StatAccessor yAccessor = StatAccessor.resolve(request.getYAxisStat());
+        SeasonData data = seasonStore.current();
+        // All requested seasons are served by one range scan with filters compiled once
+        RowList rows = getSeasonData(data, getRequestedYears(request), request, metrics);
         
+        long aggregateStart = metrics.start();
         // Use the values from the request (fallbacks already applied in generateGraph)
         String xAxisStat = request.getXAxisStat();
         String yAxisStat = request.getYAxisStat();
         
 
         
-        List<GraphResponse.ScatterPoint> points = new ArrayList<>();
-        Set<String> uniquePlayers = new HashSet<>(); // Track unique players for the list
+        // Large selections are split by season across the compute executor; chunks come back in row order
+        List<ScatterChunk> chunks = computeExecutor.mapRows(data, rows,
+            (from, to) -> scatterChunk(data, rows, from, to, xAccessor, yAccessor));
+        
+        List<GraphResponse.ScatterPoint> points = chunks.size() == 1 ? chunks.get(0).points : new ArrayList<>();
+        BitSet uniquePlayers = new BitSet(data.playerCount()); // Track unique players (by code) for the list
         
-        int totalPlayers = data.size();
+        int totalPlayers = rows.size();
         int validPlayers = 0;
         int missingXAxis = 0;
         int missingYAxis = 0;
-        
-                for (PlayerStats stat : data) {
-            Double xValue = getValueForStat(stat, xAxisStat);
-            Double yValue = getValueForStat(stat, yAxisStat);
-            
-            if (xValue == null) {
-                missingXAxis++;
-            }
-            if (yValue == null) {
-                missingYAxis++;
-            }
-            
-            if (xValue != null && yValue != null) {
-                validPlayers++;
-                GraphResponse.ScatterPoint point = new GraphResponse.ScatterPoint();
-                point.setX(xValue);
-                point.setY(yValue);
-                point.setPlayer(stat.getPlayer());
-                point.setTeam(stat.getTeam());
-                point.setYear(stat.getYear());
-                point.setLabel(stat.getPlayer());
-                point.setColor("#D3D3D3"); // Light gray color for all points
-                points.add(point);
-                
-                // Add to unique players set
-                uniquePlayers.add(stat.getPlayer());
+        for (ScatterChunk chunk : chunks) {
+            if (chunks.size() > 1) {
+                points.addAll(chunk.points);
             }
+            uniquePlayers.or(chunk.players);
+            validPlayers += chunk.points.size();
+            missingXAxis += chunk.missingX;
+            missingYAxis += chunk.missingY;
         }
         
-
         response.setPoints(points);
         
         // Add metadata for frontend axis labels and player list
@@ -338,331 +376,344 @@ public class GraphService {
         
         // Add data availability warnings
         if (missingXAxis > 0 || missingYAxis > 0) {
-            Map<String, Object> warnings = new HashMap<>();
-            warnings.put("totalPlayers", totalPlayers);
-            warnings.put("validPlayers", validPlayers);
-            warnings.put("missingXAxis", missingXAxis);
-            warnings.put("missingYAxis", missingYAxis);
-            
-            String warningMessage = String.format(
-                "Note: %d out of %d players excluded due to missing data. " +
-                "(%d missing %s data, %d missing %s data). " +
-                "This may be because some years don't track these statistics.",
-                totalPlayers - validPlayers, totalPlayers, 
-                missingXAxis, getAxisLabel(xAxisStat),
-                missingYAxis, getAxisLabel(yAxisStat)
-            );
-            warnings.put("message", warningMessage);
-            
-            metadata.put("dataWarnings", warnings);
+            metadata.put("dataWarnings", scatterWarnings(totalPlayers, validPlayers, missingXAxis, missingYAxis, xAccessor, yAccessor));
         }
         
-        // Create sorted player list for display
-        List<String> playerList = uniquePlayers.stream()
-            .sorted()
-            .collect(Collectors.toList());
+        // Create sorted player list for display (dictionary codes are in name order)
+        List<String> playerList = new ArrayList<>(uniquePlayers.cardinality());
+        for (int code = uniquePlayers.nextSetBit(0); code >= 0; code = uniquePlayers.nextSetBit(code + 1)) {
+            playerList.add(data.playerName(code));
+        }
         metadata.put("playerList", playerList);
         
         response.setMetadata(metadata);
+        metrics.addRowsEmitted(points.size());
+        metrics.stop(RequestMetrics.Phase.AGGREGATE, aggregateStart);
         
         return response;
     }
 
-    private List<PlayerStats> getPlayerData(String playerName, GraphRequest request) {
-        sqlQueriesCount++;
-        List<PlayerStats> data = playerStatsRepository.findPlayerAllStats(playerName);
-        totalRecordsProcessed += data.size();
-        
-        if (data.isEmpty()) {
-            // Try a case-insensitive search
-            List<String> allPlayers = playerStatsRepository.findAllPlayers();
+    // Scatter points of rows[from, to) with the counts needed for the player list and warnings
+    private static final class ScatterChunk {
+        final List<GraphResponse.ScatterPoint> points = new ArrayList<>();
+        final BitSet players = new BitSet();
+        int missingX;
+        int missingY;
+    }
 
+    private ScatterChunk scatterChunk(SeasonData data, RowList rows, int from, int to,
+                                      StatAccessor xAccessor, StatAccessor yAccessor) {
+        ScatterChunk chunk = new ScatterChunk();
+        for (int i = from; i < to; i++) {
+            int row = rows.get(i);
+            double xValue = xAccessor.read(data, row);
+            double yValue = yAccessor.read(data, row);
+            
+            if (Double.isNaN(xValue)) {
+                chunk.missingX++;
+            }
+            if (Double.isNaN(yValue)) {
+                chunk.missingY++;
+            }
+            
+            if (!Double.isNaN(xValue) && !Double.isNaN(yValue)) {
+                String player = data.player(row);
+                GraphResponse.ScatterPoint point = new GraphResponse.ScatterPoint();
+                point.setX(xValue);
+                point.setY(yValue);
+                point.setPlayer(player);
+                point.setTeam(data.team(row));
+                point.setYear(data.year(row));
+                point.setLabel(player);
+                point.setColor("#D3D3D3"); // Light gray color for all points
+                chunk.points.add(point);
+                chunk.players.set(data.playerCode(row));
+            }
         }
+        return chunk;
+    }
+
+    private Map<String, Object> histogramWarnings(int totalPlayers, int validPlayers, StatAccessor statAccessor) {
+        Map<String, Object> warnings = new HashMap<>();
+        warnings.put("totalPlayers", totalPlayers);
+        warnings.put("validPlayers", validPlayers);
         
-        // Apply games played filter if specified
-        if (request.getMinGamesPlayed() != null && request.getMinGamesPlayed() > 0) {
-            data = data.stream()
-                .filter(stat -> stat.getGamesPlayed() != null && stat.getGamesPlayed() >= request.getMinGamesPlayed())
-                .collect(Collectors.toList());
+        String warningMessage = String.format(
+            "Note: %d out of %d players excluded due to missing %s data. " +
+            "This may be because some years don't track this statistic.",
+            totalPlayers - validPlayers, totalPlayers, statAccessor.getLabel()
+        );
+        warnings.put("message", warningMessage);
+        return warnings;
+    }
+
+    private Map<String, Object> scatterWarnings(int totalPlayers, int validPlayers, int missingXAxis, int missingYAxis,
+                                                StatAccessor xAccessor, StatAccessor yAccessor) {
+        Map<String, Object> warnings = new HashMap<>();
+        warnings.put("totalPlayers", totalPlayers);
+        warnings.put("validPlayers", validPlayers);
+        warnings.put("missingXAxis", missingXAxis);
+        warnings.put("missingYAxis", missingYAxis);
+        
+        String warningMessage = String.format(
+            "Note: %d out of %d players excluded due to missing data. " +
+            "(%d missing %s data, %d missing %s data). " +
+            "This may be because some years don't track these statistics.",
+            totalPlayers - validPlayers, totalPlayers, 
+            missingXAxis, xAccessor.getLabel(),
+            missingYAxis, yAccessor.getLabel()
+        );
+        warnings.put("message", warningMessage);
+        return warnings;
+    }
 
+    // Admission slot for computing a validated request outside the response cache (streaming);
+    // throws AdmissionRejectedException when its cost class is saturated
+    public AdmissionControl.Permit admit(GraphRequest request) {
+        return admissionControl.acquire(request, seasonStore.current());
+    }
+
+    // Validates the request (defaults applied, stats resolved) so errors surface before a response is streamed
+    public void validateRequest(GraphRequest request) {
+        applyDefaults(request);
+        switch (request.getGraphType()) {
+            case "line":
+                StatAccessor.resolve(request.getXAxisType());
+                StatAccessor.resolve(request.getYAxisType());
+                break;
+            case "histogram":
+                StatAccessor.resolve(request.getStat());
+                break;
+            case "scatter":
+                StatAccessor.resolve(request.getXAxisStat());
+                StatAccessor.resolve(request.getYAxisStat());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported graph type: " + request.getGraphType());
+        }
+    }
+
+    // Streaming variant of generateGraph for large scatter/histogram responses: values are written to the
+    // generator while rows are scanned, with no intermediate point or label lists. Scatter points drop the
+    // constant color and the label (same as player); those are described once in metadata instead.
+    // The caller holds an admission permit for the request (see admit) for the whole call
+    public void streamGraph(GraphRequest request, JsonGenerator gen, RequestMetrics metrics) throws IOException {
+        validateRequest(request);
+        switch (request.getGraphType()) {
+            case "scatter":
+                streamScatterPlot(request, gen, metrics);
+                break;
+            case "histogram":
+                streamHistogram(request, gen, metrics);
+                break;
+            default:
+                // Line graphs are small; write the regular response, under the permit already held
+                gen.writeObject(generateGraph(request, metrics, true));
+                break;
         }
+        gen.flush();
+    }
+
+    private void streamScatterPlot(GraphRequest request, JsonGenerator gen, RequestMetrics metrics) throws IOException {
+        StatAccessor xAccessor = StatAccessor.resolve(request.getXAxisStat());
+        StatAccessor yAccessor = StatAccessor.resolve(request.getYAxisStat());
+        SeasonData data = seasonStore.current();
+        RowList rows = getSeasonData(data, getRequestedYears(request), request, metrics);
         
-        // Apply minutes per game filter if specified
-        // Note: Minutes per game wasn't tracked until 1952, so we need to handle null values
-        if (request.getMinMinutesPerGame() != null && request.getMinMinutesPerGame() > 0) {
-            data = data.stream()
-                .filter(stat -> {
-                    // If minutes data is null (pre-1952), include the player
-                    if (stat.getMinutesPerGame() == null) {
-                        return true;
-                    }
-                    // If minutes data exists, apply the filter
-                    return stat.getMinutesPerGame() >= request.getMinMinutesPerGame();
-                })
-                .collect(Collectors.toList());
-
-        }
-        
-        // For line graphs, always use multi-team overall stats (filter out individual team records)
-        // First, identify players who have multi-team overall records
-        Set<String> playersWithMultiTeamRecords = data.stream()
-            .filter(stat -> stat.getTeam() != null && stat.getTeam().contains("TM"))
-            .map(stat -> stat.getPlayer() + "_" + stat.getYear())
-            .collect(Collectors.toSet());
-        
-        // Then filter the data
-        data = data.stream()
-            .filter(stat -> {
-                // Keep records where team is null (single team) or contains "TM" (multi-team overall)
-                if (stat.getTeam() == null) {
-                    return true; // Single team player
-                }
-                if (stat.getTeam().contains("TM")) {
-                    return true; // Multi-team overall stats
-                }
-                // For individual team records, check if this player has a multi-team overall record
-                String playerYearKey = stat.getPlayer() + "_" + stat.getYear();
-                return !playersWithMultiTeamRecords.contains(playerYearKey); // Keep if no multi-team record exists
-            })
-            .collect(Collectors.toList());
-        
-        return data;
-    }
-
-    private List<PlayerStats> getSeasonData(Integer year, String statName, GraphRequest request) {
-        List<PlayerStats> data;
-        
-        // Use optimized query with all filters in one database call
-        List<String> positions = (request.getPositions() != null && !request.getPositions().isEmpty() && !request.getPositions().contains("All")) 
-            ? request.getPositions() : null;
-        List<String> teams = (request.getTeamsFilter() != null && !request.getTeamsFilter().isEmpty() && !request.getTeamsFilter().contains("All")) 
-            ? request.getTeamsFilter() : null;
-        List<Integer> ages = null;
-        
-        // Convert age strings to integers - optimized with parallelStream
-        if (request.getAgeRange() != null && !request.getAgeRange().isEmpty() && !request.getAgeRange().contains("All")) {
-            ages = request.getAgeRange().parallelStream()
-                .filter(ageStr -> !ageStr.equals("All"))
-                .map(ageStr -> {
-                    try {
-                        return Integer.parseInt(ageStr.trim());
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        }
-        
-        sqlQueriesCount++;
-        data = playerStatsRepository.findByYearWithFilters(
-            year,
-            request.getMinGamesPlayed(),
-            request.getMinMinutesPerGame() != null ? request.getMinMinutesPerGame().doubleValue() : null,
-            positions,
-            teams,
-            ages
-        );
+        long serializeStart = metrics.start();
+        BitSet uniquePlayers = new BitSet(data.playerCount());
+        int validPlayers = 0;
+        int missingXAxis = 0;
+        int missingYAxis = 0;
         
-        totalRecordsProcessed += data.size();
+        gen.writeStartObject();
+        gen.writeStringField("graphType", "scatter");
+        gen.writeArrayFieldStart("points");
+        for (int i = 0; i < rows.size(); i++) {
+            int row = rows.get(i);
+            double xValue = xAccessor.read(data, row);
+            double yValue = yAccessor.read(data, row);
+            if (Double.isNaN(xValue)) missingXAxis++;
+            if (Double.isNaN(yValue)) missingYAxis++;
+            if (Double.isNaN(xValue) || Double.isNaN(yValue)) continue;
+            
+            validPlayers++;
+            uniquePlayers.set(data.playerCode(row));
+            gen.writeStartObject();
+            gen.writeNumberField("x", xValue);
+            gen.writeNumberField("y", yValue);
+            gen.writeStringField("player", data.player(row));
+            gen.writeStringField("team", data.team(row));
+            gen.writeNumberField("year", data.year(row));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
         
-        // Apply awards filter if specified - optimized with HashSet for O(1) lookup
-        if (request.getAwards() != null && !request.getAwards().isEmpty() && !request.getAwards().contains("All")) {
-            Set<String> requestedAwards = new HashSet<>(request.getAwards());
-            data = data.parallelStream()
-                .filter(stat -> {
-                    if (stat.getAwards() == null || stat.getAwards().trim().isEmpty()) {
-                        return false;
-                    }
-                    // Use HashSet intersection for faster award matching
-                    String[] playerAwards = stat.getAwards().split(",");
-                    for (String award : playerAwards) {
-                        if (requestedAwards.contains(award.trim())) {
-                            return true;
-                        }
+        gen.writeObjectFieldStart("metadata");
+        gen.writeStringField("xAxisStat", request.getXAxisStat());
+        gen.writeStringField("yAxisStat", request.getYAxisStat());
+        gen.writeStringField("pointColor", "#D3D3D3"); // Light gray color for all points
+        gen.writeStringField("pointLabel", "player");
+        if (missingXAxis > 0 || missingYAxis > 0) {
+            gen.writeObjectField("dataWarnings",
+                scatterWarnings(rows.size(), validPlayers, missingXAxis, missingYAxis, xAccessor, yAccessor));
+        }
+        gen.writeArrayFieldStart("playerList");
+        for (int code = uniquePlayers.nextSetBit(0); code >= 0; code = uniquePlayers.nextSetBit(code + 1)) {
+            gen.writeString(data.playerName(code));
+        }
+        gen.writeEndArray();
+        metrics.addRowsEmitted(validPlayers);
+        metrics.stop(RequestMetrics.Phase.SERIALIZE, serializeStart);
+        metrics.finish();
+        gen.writeObjectField("performance", metrics.toMetadata());
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private void streamHistogram(GraphRequest request, JsonGenerator gen, RequestMetrics metrics) throws IOException {
+        StatAccessor statAccessor = StatAccessor.resolve(request.getStat());
+        SeasonData data = seasonStore.current();
+        RowList rows = getSeasonData(data, getRequestedYears(request), request, metrics);
+        
+        long aggregateStart = metrics.start();
+        Histogram histogram = Histogram.compute(data, rows, statAccessor,
+            Histogram.Strategy.resolve(request.getBinStrategy()), request.getBinCount(), request.getMinValue(), request.getMaxValue());
+        metrics.stop(RequestMetrics.Phase.AGGREGATE, aggregateStart);
+        
+        long serializeStart = metrics.start();
+        gen.writeStartObject();
+        gen.writeStringField("graphType", "histogram");
+        gen.writeArrayFieldStart("binEdges");
+        for (int i = 0; !histogram.isEmpty() && i <= histogram.binCount(); i++) {
+            gen.writeNumber(histogram.edge(i));
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("binCounts");
+        for (int bin = 0; bin < histogram.binCount(); bin++) {
+            gen.writeNumber(histogram.count(bin));
+        }
+        gen.writeEndArray();
+        
+        gen.writeObjectFieldStart("metadata");
+        gen.writeStringField("stat", request.getStat());
+        if (!histogram.isEmpty()) {
+            gen.writeStringField("binStrategy", Histogram.Strategy.resolve(request.getBinStrategy()).getName());
+            if (histogram.outOfRange() > 0) {
+                gen.writeNumberField("outOfRange", histogram.outOfRange());
+            }
+            if (!Boolean.FALSE.equals(request.getIncludeBinPlayers())) {
+                gen.writeArrayFieldStart("binPlayers");
+                for (int bin = 0; bin < histogram.binCount(); bin++) {
+                    gen.writeStartArray();
+                    for (int i = 0; i < histogram.count(bin); i++) {
+                        gen.writeString(histogram.label(bin, i));
                     }
-                    return false;
-                })
-                .collect(Collectors.toList());
+                    gen.writeEndArray();
+                }
+                gen.writeEndArray();
+            }
+            if (histogram.validRows() < histogram.totalRows()) {
+                gen.writeObjectField("dataWarnings", histogramWarnings(histogram.totalRows(), histogram.validRows(), statAccessor));
+            }
         }
-        
-        // Optimized multi-team filtering - single pass with early termination
-        if (data.size() > 1000) { // Only do complex filtering for large datasets
-            Map<String, Boolean> playerYearMultiTeam = new HashMap<>();
-            
-            // Single pass to identify multi-team players
-            for (PlayerStats stat : data) {
-                if (stat.getTeam() != null && stat.getTeam().contains("TM")) {
-                    String key = stat.getPlayer() + "_" + stat.getYear();
-                    playerYearMultiTeam.put(key, true);
+        metrics.addRowsEmitted(histogram.validRows());
+        metrics.stop(RequestMetrics.Phase.SERIALIZE, serializeStart);
+        metrics.finish();
+        gen.writeObjectField("performance", metrics.toMetadata());
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    // Rows for each requested player (same order as playerNames), filtered and deduplicated in one pass
+    private List<RowList> getPlayerData(SeasonData data, List<String> playerNames, GraphRequest request, RequestMetrics metrics) {
+        long queryStart = metrics.start();
+        List<RowList> candidates = new ArrayList<>(playerNames.size());
+        for (String playerName : playerNames) {
+            int code = data.playerCodeOf(playerName);
+            candidates.add(code != SeasonData.NO_CODE ? data.rowsOfPlayer(code) : new RowList(0));
+        }
+        metrics.stop(RequestMetrics.Phase.QUERY, queryStart);
+        
+        long filterStart = metrics.start();
+        // Games played filter only applies when positive
+        int minGames = request.getMinGamesPlayed() != null && request.getMinGamesPlayed() > 0
+            ? request.getMinGamesPlayed() : SeasonData.MISSING;
+        // Note: Minutes per game wasn't tracked until 1952, so rows without minutes data are kept
+        double minMinutes = request.getMinMinutesPerGame() != null && request.getMinMinutesPerGame() > 0
+            ? request.getMinMinutesPerGame() : Double.NaN;
+        
+        // Canonical rows (one per season, 2TM/3TM totals for traded players) or individual team rows
+        BitSet seasonRows = Boolean.FALSE.equals(request.getIncludeMultiTeamPlayers())
+            ? data.bitmaps().perTeam() : data.bitmaps().canonical();
+        
+        List<RowList> result = new ArrayList<>(candidates.size());
+        for (RowList rows : candidates) {
+            metrics.addRowsScanned(rows.size());
+            metrics.addRecordsProcessed(rows.size());
+            RowList kept = new RowList(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                int row = rows.get(i);
+                if (seasonRows.get(row) && passesPlayerFilters(data, row, minGames, minMinutes)) {
+                    kept.add(row);
                 }
             }
-            
-            // Filter in single pass
-            data = data.parallelStream()
-                .filter(stat -> {
-                    if (stat.getTeam() == null) return true; // Single team player
-                    if (stat.getTeam().contains("TM")) return true; // Multi-team overall
-                    
-                    // Check if this player has a multi-team record
-                    String key = stat.getPlayer() + "_" + stat.getYear();
-                    return !playerYearMultiTeam.containsKey(key);
-                })
-                .collect(Collectors.toList());
-        }
-        
-        return data;
-    }
-
-    private Double getValueForAxis(PlayerStats stat, String axisType) {
-        return getValueForStat(stat, axisType);
-    }
-
-    private Double getValueForStat(PlayerStats stat, String statName) {
-        if (statName == null) return null;
-        
-
-        
-        switch (statName.toLowerCase()) {
-            case "age":
-                return stat.getAge() != null ? stat.getAge().doubleValue() : null;
-            case "year":
-                return stat.getYear() != null ? stat.getYear().doubleValue() : null;
-            case "points":
-            case "ppg":
-                return stat.getPoints();
-            case "assists":
-                return stat.getAssists();
-            case "rebounds":
-                return stat.getTotalRebounds();
-            case "steals":
-                return stat.getSteals();
-            case "blocks":
-                return stat.getBlocks();
-            case "minutes_per_game":
-            case "mpg":
-                return stat.getMinutesPerGame();
-            case "field_goal_percentage":
-            case "fg%":
-                return stat.getFieldGoalPercentage();
-            case "three_point_percentage":
-            case "3p%":
-                return stat.getThreePointPercentage();
-            case "free_throw_percentage":
-            case "ft%":
-                return stat.getFreeThrowPercentage();
-            case "games_played":
-                return stat.getGamesPlayed() != null ? stat.getGamesPlayed().doubleValue() : null;
-            case "games_started":
-                return stat.getGamesStarted() != null ? stat.getGamesStarted().doubleValue() : null;
-            case "turnovers":
-                return stat.getTurnovers();
-            case "personal_fouls":
-                return stat.getPersonalFouls();
-            // Additional shooting stats
-            case "field_goals_made":
-                return stat.getFieldGoalsMade();
-            case "field_goals_attempted":
-                return stat.getFieldGoalsAttempted();
-            case "two_pointers_made":
-                return stat.getTwoPointersMade();
-            case "two_pointers_attempted":
-                return stat.getTwoPointersAttempted();
-            case "two_point_percentage":
-                return stat.getTwoPointPercentage();
-            case "effective_field_goal_percentage":
-                return stat.getEffectiveFieldGoalPercentage();
-            case "three_pointers_made":
-                return stat.getThreePointersMade();
-            case "three_pointers_attempted":
-                return stat.getThreePointersAttempted();
-            case "free_throws_made":
-                return stat.getFreeThrowsMade();
-            case "free_throws_attempted":
-                return stat.getFreeThrowsAttempted();
-            // Additional rebounding stats
-            case "offensive_rebounds":
-                return stat.getOffensiveRebounds();
-            case "defensive_rebounds":
-                return stat.getDefensiveRebounds();
+            result.add(kept);
+        }
+        metrics.stop(RequestMetrics.Phase.FILTER, filterStart);
+        
+        return result;
+    }
 
-            default:
-                return null;
-        }
-    }
-
-    private String getAxisLabel(String axisType) {
-        if (axisType == null) return "X-Axis";
-        
-        switch (axisType.toLowerCase()) {
-            case "age":
-                return "Age";
-            case "year":
-            case "season":
-                return "Season";
-            case "points":
-            case "ppg":
-                return "Points Per Game";
-            case "assists":
-                return "Assists Per Game";
-            case "rebounds":
-                return "Rebounds Per Game";
-            case "steals":
-                return "Steals Per Game";
-            case "blocks":
-                return "Blocks Per Game";
-            case "minutes_per_game":
-            case "mpg":
-                return "Minutes Per Game";
-            case "field_goal_percentage":
-            case "fg%":
-                return "Field Goal %";
-            case "three_point_percentage":
-            case "3p%":
-                return "3-Point %";
-            case "free_throw_percentage":
-            case "ft%":
-                return "Free Throw %";
-            case "turnovers":
-                return "Turnovers Per Game";
-            case "personal_fouls":
-                return "Personal Fouls Per Game";
-            // Additional shooting stats
-            case "field_goals_made":
-                return "Field Goals Made Per Game";
-            case "field_goals_attempted":
-                return "Field Goals Attempted Per Game";
-            case "two_pointers_made":
-                return "2-Pointers Made Per Game";
-            case "two_pointers_attempted":
-                return "2-Pointers Attempted Per Game";
-            case "two_point_percentage":
-                return "2-Point %";
-            case "effective_field_goal_percentage":
-                return "Effective Field Goal %";
-            case "three_pointers_made":
-                return "3-Pointers Made Per Game";
-            case "three_pointers_attempted":
-                return "3-Pointers Attempted Per Game";
-            case "free_throws_made":
-                return "Free Throws Made Per Game";
-            case "free_throws_attempted":
-                return "Free Throws Attempted Per Game";
-            // Additional rebounding stats
-            case "offensive_rebounds":
-                return "Offensive Rebounds Per Game";
-            case "defensive_rebounds":
-                return "Defensive Rebounds Per Game";
+    private boolean passesPlayerFilters(SeasonData data, int row, int minGames, double minMinutes) {
+        if (minGames != SeasonData.MISSING && (data.gamesPlayed(row) == SeasonData.MISSING || data.gamesPlayed(row) < minGames)) {
+            return false;
+        }
+        double minutes = data.stat(StatColumn.MINUTES_PER_GAME, row);
+        return Double.isNaN(minMinutes) || Double.isNaN(minutes) || minutes >= minMinutes;
+    }
 
-            default:
-                return axisType;
+    // Requested seasons in ascending order without duplicates (matches GraphCacheKey)
+    private List<Integer> getRequestedYears(GraphRequest request) {
+        if (request.getYears() != null && !request.getYears().isEmpty()) {
+            TreeSet<Integer> years = new TreeSet<>();
+            request.getYears().stream().filter(Objects::nonNull).forEach(years::add);
+            return new ArrayList<>(years);
         }
+        return request.getYear() != null ? List.of(request.getYear()) : List.of();
     }
-    
-    private String getStatLabel(String statName) {
-        return getAxisLabel(statName);
+
+    private RowList getSeasonData(SeasonData data, List<Integer> years, GraphRequest request, RequestMetrics metrics) {
+        long filterStart = metrics.start();
+        SeasonFilter filter = SeasonFilter.compile(data, request);
+        
+        // Only rows in the filter bitmap are visited; multi-team duplicates are already excluded there.
+        // Many-season requests scan groups of seasons on the compute executor, results in year order.
+        List<SeasonScan> scans = computeExecutor.mapSeasons(data, years, chunk -> {
+            SeasonScan scan = new SeasonScan();
+            for (int year : chunk) {
+                scan.visited += filter.select(data, data.seasonStart(year), data.seasonEnd(year), scan.rows);
+            }
+            return scan;
+        });
+        
+        RowList rows = scans.get(0).rows;
+        metrics.addRowsScanned(scans.get(0).visited);
+        for (SeasonScan scan : scans.subList(1, scans.size())) {
+            rows.addAll(scan.rows);
+            metrics.addRowsScanned(scan.visited);
+        }
+        metrics.addRecordsProcessed(rows.size());
+        metrics.stop(RequestMetrics.Phase.FILTER, filterStart);
+        
+        return rows;
     }
-    
+
+    private static final class SeasonScan {
+        final RowList rows = new RowList();
+        long visited;
+    }
+
     private String getRandomColor() {
         String[] colors = {
             "#FF6384", "#36A2EB", "#FFCE56", "#4BC0C0", 
@@ -695,184 +746,71 @@ public class GraphService {
 
 
 
-    public List<String> searchPlayers(String search) {
+    public Map<String, Object> reloadData() {
+        SeasonData data = seasonStore.reload();
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("rows", data.rowCount());
+        summary.put("firstYear", data.firstYear());
+        summary.put("lastYear", data.lastYear());
+        return summary;
+    }
+
+    // Empty search returns every player (or the first limit players when a limit is given)
+    public List<String> searchPlayers(String search, Integer limit) {
         if (search == null || search.trim().isEmpty()) {
-            return playerStatsRepository.findAllPlayers();
+            List<String> players = seasonStore.current().players();
+            return limit != null && limit < players.size() ? players.subList(0, limit) : players;
         }
-        return playerStatsRepository.searchPlayers(search.trim());
+        // Served by the in-memory name index: prefix matches first, capped at limit
+        return seasonStore.current().playerNameIndex().search(search, limit);
     }
 
-    public List<String> getTeams() {
-        return playerStatsRepository.findAllTeams();
+    // Cursor pagination over the sorted player dictionary. The cursor encodes the last name returned,
+    // so it stays valid across data reloads.
+    public PlayerPage getPlayerPage(String cursor, int limit) {
+        SeasonData data = seasonStore.current();
+        int from = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            String lastName;
+            try {
+                lastName = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            from = data.playerCodeAfter(lastName);
+        }
+        int to = Math.min(from + limit, data.playerCount());
+        List<String> items = data.players().subList(from, to);
+        String nextCursor = to < data.playerCount() && to > from
+            ? Base64.getUrlEncoder().withoutPadding().encodeToString(items.get(items.size() - 1).getBytes(StandardCharsets.UTF_8))
+            : null;
+        return new PlayerPage(items, nextCursor, data.playerCount());
     }
 
+    // Writes the player dictionary as "id<TAB>name" lines; ids are valid for the current dataset version
+    public void writePlayerDictionary(OutputStream out) throws IOException {
+        SeasonData data = seasonStore.current();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int code = 0; code < data.playerCount(); code++) {
+            writer.write(Integer.toString(code));
+            writer.write('\t');
+            writer.write(data.playerName(code));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
 
+    public List<String> getTeams() {
+        // Served from the store so the list always matches the dataset version used for ETags
+        return seasonStore.current().teams();
+    }
 
     public List<String> getAwards() {
-        List<String> allAwards = playerStatsRepository.findFilteredAwards();
-        
-        // Filter awards to only include top 5 for MVP, DPOY, 6MOY, and exclude high place numbers
-        List<String> filteredAwards = allAwards.stream()
-            .filter(award -> {
-                if (award == null || award.trim().isEmpty()) {
-                    return false;
-                }
-                
-                String trimmedAward = award.trim();
-                
-                // Handle MVP awards (MVP-1, MVP-2, etc.)
-                if (trimmedAward.startsWith("MVP-")) {
-                    try {
-                        int place = Integer.parseInt(trimmedAward.substring(4));
-                        return place <= 5;
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // Handle DPOY awards (DPOY-1, DPOY-2, etc.)
-                if (trimmedAward.startsWith("DPOY-")) {
-                    try {
-                        int place = Integer.parseInt(trimmedAward.substring(5));
-                        return place <= 5;
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // Handle 6MOY awards (6MOY-1, 6MOY-2, etc.)
-                if (trimmedAward.startsWith("6MOY-")) {
-                    try {
-                        int place = Integer.parseInt(trimmedAward.substring(5));
-                        return place <= 5;
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // Handle ROY awards (ROY-1, ROY-2, etc.) - ROY should be treated as ROY-1
-                if (trimmedAward.startsWith("ROY-")) {
-                    try {
-                        int place = Integer.parseInt(trimmedAward.substring(4));
-                        return place <= 5;
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // Handle NBA awards (NBA1, NBA2, NBA3) - no dash
-                if (trimmedAward.startsWith("NBA")) {
-                    try {
-                        // Extract number from NBA1, NBA2, NBA3
-                        String numberPart = trimmedAward.substring(3);
-                        int place = Integer.parseInt(numberPart);
-                        return place <= 3; // Only top 3 for NBA
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // Handle DEF awards (DEF1, DEF2) - no dash
-                if (trimmedAward.startsWith("DEF")) {
-                    try {
-                        // Extract number from DEF1, DEF2
-                        String numberPart = trimmedAward.substring(3);
-                        int place = Integer.parseInt(numberPart);
-                        return place <= 2; // Only top 2 for DEF
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // Handle MIP awards (MIP-1 only)
-                if (trimmedAward.startsWith("MIP-")) {
-                    try {
-                        int place = Integer.parseInt(trimmedAward.substring(4));
-                        return place == 1; // Only MIP-1
-                    } catch (NumberFormatException e) {
-                        return false;
-                    }
-                }
-                
-                // For other awards with place numbers (e.g., "All-NBA-1", "All-Defense-2")
-                if (trimmedAward.contains("-")) {
-                    String[] parts = trimmedAward.split("-");
-                    if (parts.length > 1) {
-                        try {
-                            int place = Integer.parseInt(parts[parts.length - 1]);
-                            return place <= 5;
-                        } catch (NumberFormatException e) {
-                            // If the last part isn't a number, include the award
-                            return true;
-                        }
-                    }
-                }
-                
-                // Include all other awards (All-Star, etc.)
-                return true;
-            })
-            .collect(Collectors.toList());
-        
-        // Custom sorting: MVP, DPOY, NBA 1-3, DEF 1-2, ROY, 6MOY, MIP, then others
-        return filteredAwards.stream()
-            .sorted((a, b) -> {
-                int orderA = getAwardOrder(a);
-                int orderB = getAwardOrder(b);
-                
-                if (orderA != orderB) {
-                    return Integer.compare(orderA, orderB);
-                }
-                
-                // If same category, sort alphabetically
-                return a.compareTo(b);
-            })
-            .collect(Collectors.toList());
+        // Parsed, filtered and sorted once per data load
+        return awardCatalog.getAwardNames();
     }
-    
-    private int getAwardOrder(String award) {
-        String trimmedAward = award.trim();
-        
-        // MVP awards (MVP-1, MVP-2, etc.)
-        if (trimmedAward.startsWith("MVP-")) {
-            return 1;
-        }
-
-        // All stars
-        if (trimmedAward.startsWith("AS")) {
-            return 2;
-        }
 
-        // DPOY awards (DPOY-1, DPOY-2, etc.)
-        if (trimmedAward.startsWith("DPOY-")) {
-            return 3;
-        }
-        
-        // All-NBA awards (NBA1, NBA2, NBA3)
-        if (trimmedAward.startsWith("NBA")) {
-            return 4;
-        }
-        
-        // All-Defense awards (DEF1, DEF2)
-        if (trimmedAward.startsWith("DEF")) {
-            return 5;
-        }
-        
-        // ROY awards (ROY-1, ROY-2, etc.)
-        if (trimmedAward.startsWith("ROY-")) {
-            return 6;
-        }
-        
-        // 6MOY awards (6MOY-1, 6MOY-2, etc.)
-        if (trimmedAward.startsWith("6MOY-")) {
-            return 7;
-        }
-        
-        // MIP awards (MIP-1, MIP-2, etc.)
-        if (trimmedAward.startsWith("MIP-")) {
-            return 8;
-        }
-        
-        // All other awards come last
-        return 999;
+    public List<Award> findAwards(List<String> families, Integer maxPlace, boolean listedOnly) {
+        return awardCatalog.find(families, maxPlace, listedOnly);
     }
 }
@@ -0,0 +1,311 @@
+package com.nba.service;
+
+import com.nba.store.RowList;
+import com.nba.store.SeasonData;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Histogram of one stat over a set of store rows, built from primitive arrays.
+// Bin membership is kept as row indices grouped by bin (CSR layout); the "Player (year) - value"
+// labels are only rendered when a bin's player list is read.
+public final class Histogram {
+
+    // How bin edges are chosen; request names are case-insensitive
+    public enum Strategy {
+        FIXED("fixed"),                                      // binCount equal-width bins
+        FREEDMAN_DIACONIS("freedman-diaconis", "fd"),        // width 2 * IQR / n^(1/3)
+        STURGES("sturges"),                                  // log2(n) + 1 equal-width bins
+        QUANTILE("quantile");                                // binCount bins holding ~equal counts
+
+        private final List<String> names;
+
+        Strategy(String... names) {
+            this.names = List.of(names);
+        }
+
+        public static Strategy resolve(String name) {
+            if (name == null) {
+                return FIXED;
+            }
+            for (Strategy strategy : values()) {
+                if (strategy.names.contains(name.toLowerCase(Locale.ROOT))) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Unknown bin strategy: " + name);
+        }
+
+        public String getName() {
+            return names.get(0);
+        }
+    }
+
+    // Upper bound for every bin count: requested ones are rejected above it (see GraphService), and
+    // data-driven ones are capped, so a tiny IQR can't produce thousands of bins
+    public static final int MAX_BINS = 200;
+
+    private final SeasonData data;
+    private final StatAccessor stat;
+    private final double[] edges;
+    private final int[] counts;
+    // Rows of bin b are members[binStart[b]] .. members[binStart[b + 1] - 1], in input order
+    private final int[] binStart;
+    private final int[] members;
+    private final int totalRows;
+    private final int validRows;
+    private final int outOfRange;
+
+    private Histogram(SeasonData data, StatAccessor stat, double[] edges, int[] counts, int[] binStart,
+                      int[] members, int totalRows, int validRows, int outOfRange) {
+        this.data = data;
+        this.stat = stat;
+        this.edges = edges;
+        this.counts = counts;
+        this.binStart = binStart;
+        this.members = members;
+        this.totalRows = totalRows;
+        this.validRows = validRows;
+        this.outOfRange = outOfRange;
+    }
+
+    public static Histogram compute(SeasonData data, RowList rows, StatAccessor stat, int binCount) {
+        return compute(data, rows, stat, Strategy.FIXED, binCount, null, null);
+    }
+
+    // Bins over [minValue, maxValue] (each defaulting to the data's extreme); values outside the range
+    // and rows missing the stat are left out. binCount is used by FIXED and QUANTILE only.
+    public static Histogram compute(SeasonData data, RowList rows, StatAccessor stat, Strategy strategy,
+                                    int binCount, Double minValue, Double maxValue) {
+        double[] values = new double[rows.size()];
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int validRows = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            double value = stat.read(data, rows.get(i));
+            values[i] = value;
+            if (!Double.isNaN(value)) {
+                validRows++;
+                if (value < min) min = value;
+                if (value > max) max = value;
+            }
+        }
+        double low = minValue != null ? minValue : min;
+        double high = maxValue != null ? maxValue : max;
+
+        // Missing and out-of-range values are marked NaN so later passes only see binned values
+        int inRange = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < low || values[i] > high) {
+                values[i] = Double.NaN;
+            } else if (!Double.isNaN(values[i])) {
+                inRange++;
+            }
+        }
+        int outOfRange = validRows - inRange;
+        if (inRange == 0) {
+            return new Histogram(data, stat, new double[0], new int[0], new int[1], new int[0], rows.size(), validRows, outOfRange);
+        }
+
+        double[] edges = edges(strategy, values, inRange, binCount, low, high);
+        int bins = edges.length - 1;
+        boolean uniform = strategy != Strategy.QUANTILE;
+        double binWidth = (high - low) / bins;
+
+        // Count, then place rows by bin (counting sort keeps input order within a bin)
+        int[] counts = new int[bins];
+        for (int i = 0; i < values.length; i++) {
+            int bin = uniform ? binOf(values[i], low, binWidth, bins) : binOf(values[i], edges);
+            if (bin >= 0) counts[bin]++;
+        }
+        int[] binStart = new int[bins + 1];
+        for (int bin = 0; bin < bins; bin++) {
+            binStart[bin + 1] = binStart[bin] + counts[bin];
+        }
+        int[] members = new int[binStart[bins]];
+        int[] next = Arrays.copyOf(binStart, bins);
+        for (int i = 0; i < values.length; i++) {
+            int bin = uniform ? binOf(values[i], low, binWidth, bins) : binOf(values[i], edges);
+            if (bin >= 0) members[next[bin]++] = rows.get(i);
+        }
+        return new Histogram(data, stat, edges, counts, binStart, members, rows.size(), validRows, outOfRange);
+    }
+
+    private static double[] edges(Strategy strategy, double[] values, int count, int binCount, double low, double high) {
+        binCount = Math.max(1, Math.min(binCount, MAX_BINS));
+        int bins;
+        switch (strategy) {
+            case STURGES:
+                bins = (int) Math.ceil(Math.log(count) / Math.log(2)) + 1;
+                break;
+            case FREEDMAN_DIACONIS: {
+                double[] sorted = sortedValues(values, count);
+                double iqr = quantile(sorted, 0.75) - quantile(sorted, 0.25);
+                double width = 2 * iqr / Math.cbrt(count);
+                bins = width > 0 ? (int) Math.ceil((high - low) / width) : 1;
+                break;
+            }
+            case QUANTILE: {
+                double[] sorted = sortedValues(values, count);
+                double[] edges = new double[binCount + 1];
+                for (int i = 0; i <= binCount; i++) {
+                    edges[i] = quantile(sorted, (double) i / binCount);
+                }
+                // The outer edges span the requested range, not just the data inside it
+                edges[0] = low;
+                edges[binCount] = high;
+                return edges;
+            }
+            default:
+                bins = binCount;
+                break;
+        }
+        bins = Math.max(1, Math.min(bins, MAX_BINS));
+        double binWidth = (high - low) / bins;
+        double[] edges = new double[bins + 1];
+        for (int i = 0; i <= bins; i++) {
+            edges[i] = low + i * binWidth;
+        }
+        return edges;
+    }
+
+    // The count non-NaN entries of values, ascending
+    private static double[] sortedValues(double[] values, int count) {
+        double[] sorted = new double[count];
+        int n = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) sorted[n++] = value;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // Linear interpolation between closest ranks
+    private static double quantile(double[] sorted, double q) {
+        double position = q * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    // Equal-width bins; -1 for missing values. A zero-width range puts everything in the first bin.
+    private static int binOf(double value, double min, double binWidth, int binCount) {
+        if (Double.isNaN(value)) {
+            return -1;
+        }
+        if (binWidth == 0) {
+            return 0;
+        }
+        int bin = (int) Math.min((value - min) / binWidth, binCount - 1);
+        return bin >= 0 && bin < binCount ? bin : -1;
+    }
+
+    // Variable-width bins: last edge <= value, the final bin is closed on the right
+    private static int binOf(double value, double[] edges) {
+        if (Double.isNaN(value)) {
+            return -1;
+        }
+        int low = 0;
+        int high = edges.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (edges[mid] <= value) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // True when no row has an in-range value
+    public boolean isEmpty() {
+        return counts.length == 0;
+    }
+
+    public int binCount() {
+        return counts.length;
+    }
+
+    public double edge(int index) {
+        return edges[index];
+    }
+
+    public int count(int bin) {
+        return counts[bin];
+    }
+
+    public int totalRows() {
+        return totalRows;
+    }
+
+    public int validRows() {
+        return validRows;
+    }
+
+    // Rows with a value outside the requested minValue/maxValue
+    public int outOfRange() {
+        return outOfRange;
+    }
+
+    public List<Double> edgeList() {
+        List<Double> list = new ArrayList<>(edges.length);
+        for (double edge : edges) {
+            list.add(edge);
+        }
+        return list;
+    }
+
+    public List<Integer> countList() {
+        List<Integer> list = new ArrayList<>(counts.length);
+        for (int count : counts) {
+            list.add(count);
+        }
+        return list;
+    }
+
+    // Label of one bin member, e.g. "LeBron James (2013) - 26.8"
+    public String label(int bin, int index) {
+        int row = members[binStart[bin] + index];
+        return data.player(row) + " (" + data.year(row) + ") - " + String.format("%.1f", stat.read(data, row));
+    }
+
+    // Player labels of one bin; rendered as the list is read
+    public List<String> binPlayers(int bin) {
+        if (bin < 0 || bin >= counts.length) {
+            throw new IllegalArgumentException("Bin out of range: " + bin);
+        }
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= counts[bin]) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return label(bin, index);
+            }
+
+            @Override
+            public int size() {
+                return counts[bin];
+            }
+        };
+    }
+
+    // Lazy view of all bins' player labels, serialized like the List<List<String>> it replaces
+    public List<List<String>> binPlayerLists() {
+        return new AbstractList<>() {
+            @Override
+            public List<String> get(int bin) {
+                return binPlayers(bin);
+            }
+
+            @Override
+            public int size() {
+                return counts.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.nba.service;
+
+import com.nba.dto.GraphRequest;
+import com.nba.store.RowBitmaps;
+import com.nba.store.RowList;
+import com.nba.store.SeasonData;
+import com.nba.store.StatColumn;
+
+import java.util.BitSet;
+import java.util.List;
+
+// GraphRequest filters resolved once per request against the store dictionaries.
+// "All" entries (or empty lists) disable the corresponding filter; null or blank entries are ignored.
+// Position, team, age and award filters become one row bitmap (OR within a filter, AND across
+// filters), starting from the canonical or per-team rows; only the minimum games/minutes
+// thresholds are checked row by row.
+public class SeasonFilter {
+
+    private final int minGames;
+    private final double minMinutes;
+    // Rows passing the categorical filters
+    private final BitSet mask;
+
+    private SeasonFilter(SeasonData data, GraphRequest request) {
+        minGames = request.getMinGamesPlayed() != null ? request.getMinGamesPlayed() : SeasonData.MISSING;
+        minMinutes = request.getMinMinutesPerGame() != null ? request.getMinMinutesPerGame() : Double.NaN;
+
+        RowBitmaps bitmaps = data.bitmaps();
+        // includeMultiTeamPlayers (default true) keeps one row per player-season, with traded players
+        // represented by their 2TM/3TM totals; false keeps the individual team rows instead
+        BitSet rows = (BitSet) (Boolean.FALSE.equals(request.getIncludeMultiTeamPlayers())
+            ? bitmaps.perTeam() : bitmaps.canonical()).clone();
+
+        if (isActive(request.getPositions())) {
+            BitSet positions = new BitSet(data.rowCount());
+            for (String position : request.getPositions()) {
+                int code = data.positionCodeOf(position);
+                if (code != SeasonData.NO_CODE) positions.or(bitmaps.position(code));
+            }
+            rows = intersect(rows, positions);
+        }
+
+        if (isActive(request.getTeamsFilter())) {
+            BitSet teams = new BitSet(data.rowCount());
+            for (String team : request.getTeamsFilter()) {
+                int code = data.teamCodeOf(team);
+                if (code != SeasonData.NO_CODE) teams.or(bitmaps.team(code));
+            }
+            rows = intersect(rows, teams);
+        }
+
+        if (isActive(request.getAgeRange())) {
+            BitSet ages = new BitSet(data.rowCount());
+            for (String age : request.getAgeRange()) {
+                if (!isPresent(age)) continue;
+                try {
+                    int parsed = Integer.parseInt(age.trim());
+                    if (parsed >= 0) ages.or(bitmaps.age(parsed));
+                } catch (NumberFormatException e) {
+                    // Ignore entries that aren't ages
+                }
+            }
+            rows = intersect(rows, ages);
+        }
+
+        if (isActive(request.getAwards())) {
+            BitSet awards = new BitSet(data.rowCount());
+            for (String award : request.getAwards()) {
+                int id = data.awardIdOf(award);
+                if (id != SeasonData.NO_CODE) awards.or(bitmaps.award(id));
+            }
+            rows = intersect(rows, awards);
+        }
+
+        mask = rows;
+    }
+
+    public static SeasonFilter compile(SeasonData data, GraphRequest request) {
+        return new SeasonFilter(data, request);
+    }
+
+    // Null or blank entries are skipped, like null years; a list of nothing else leaves the filter off
+    private static boolean isActive(List<String> values) {
+        return values != null && values.stream().anyMatch(SeasonFilter::isPresent) && !values.contains("All");
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static BitSet intersect(BitSet rows, BitSet filter) {
+        rows.and(filter);
+        return rows;
+    }
+
+    public boolean matches(SeasonData data, int row) {
+        return mask.get(row) && passesThresholds(data, row);
+    }
+
+    private boolean passesThresholds(SeasonData data, int row) {
+        if (minGames != SeasonData.MISSING && (data.gamesPlayed(row) == SeasonData.MISSING || data.gamesPlayed(row) < minGames)) return false;
+        return Double.isNaN(minMinutes) || data.stat(StatColumn.MINUTES_PER_GAME, row) >= minMinutes;
+    }
+
+    // Appends the matching rows of [start, end) to out, visiting only rows in the bitmap;
+    // returns the number of rows visited
+    public int select(SeasonData data, int start, int end, RowList out) {
+        int visited = 0;
+        for (int row = mask.nextSetBit(start); row >= 0 && row < end; row = mask.nextSetBit(row + 1)) {
+            visited++;
+            if (passesThresholds(data, row)) out.add(row);
+        }
+        return visited;
+    }
+}
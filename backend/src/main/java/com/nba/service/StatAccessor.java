@@ -0,0 +1,123 @@
+package com.nba.service;
+
+import com.nba.entity.PlayerStats;
+import com.nba.store.SeasonData;
+import com.nba.store.StatColumn;
+
+import java.util.*;
+import java.util.function.Function;
+
+// Registry of graphable stats: request names (and aliases), axis labels and typed readers.
+// Stat names are resolved once per request; rows are then read without any string handling.
+public enum StatAccessor {
+    AGE("Age", SeasonData::age, PlayerStats::getAge, "age"),
+    YEAR("Season", SeasonData::year, PlayerStats::getYear, "year", "season"),
+    GAMES_PLAYED("Games Played", SeasonData::gamesPlayed, PlayerStats::getGamesPlayed, "games_played"),
+    GAMES_STARTED("Games Started", SeasonData::gamesStarted, PlayerStats::getGamesStarted, "games_started"),
+    POINTS(StatColumn.POINTS, "Points Per Game", "points", "ppg"),
+    ASSISTS(StatColumn.ASSISTS, "Assists Per Game", "assists"),
+    REBOUNDS(StatColumn.TOTAL_REBOUNDS, "Rebounds Per Game", "rebounds"),
+    STEALS(StatColumn.STEALS, "Steals Per Game", "steals"),
+    BLOCKS(StatColumn.BLOCKS, "Blocks Per Game", "blocks"),
+    MINUTES_PER_GAME(StatColumn.MINUTES_PER_GAME, "Minutes Per Game", "minutes_per_game", "mpg"),
+    FIELD_GOAL_PERCENTAGE(StatColumn.FIELD_GOAL_PERCENTAGE, "Field Goal %", "field_goal_percentage", "fg%"),
+    THREE_POINT_PERCENTAGE(StatColumn.THREE_POINT_PERCENTAGE, "3-Point %", "three_point_percentage", "3p%"),
+    FREE_THROW_PERCENTAGE(StatColumn.FREE_THROW_PERCENTAGE, "Free Throw %", "free_throw_percentage", "ft%"),
+    TURNOVERS(StatColumn.TURNOVERS, "Turnovers Per Game", "turnovers"),
+    PERSONAL_FOULS(StatColumn.PERSONAL_FOULS, "Personal Fouls Per Game", "personal_fouls"),
+    // Additional shooting stats
+    FIELD_GOALS_MADE(StatColumn.FIELD_GOALS_MADE, "Field Goals Made Per Game", "field_goals_made"),
+    FIELD_GOALS_ATTEMPTED(StatColumn.FIELD_GOALS_ATTEMPTED, "Field Goals Attempted Per Game", "field_goals_attempted"),
+    TWO_POINTERS_MADE(StatColumn.TWO_POINTERS_MADE, "2-Pointers Made Per Game", "two_pointers_made"),
+    TWO_POINTERS_ATTEMPTED(StatColumn.TWO_POINTERS_ATTEMPTED, "2-Pointers Attempted Per Game", "two_pointers_attempted"),
+    TWO_POINT_PERCENTAGE(StatColumn.TWO_POINT_PERCENTAGE, "2-Point %", "two_point_percentage"),
+    EFFECTIVE_FIELD_GOAL_PERCENTAGE(StatColumn.EFFECTIVE_FIELD_GOAL_PERCENTAGE, "Effective Field Goal %", "effective_field_goal_percentage"),
+    THREE_POINTERS_MADE(StatColumn.THREE_POINTERS_MADE, "3-Pointers Made Per Game", "three_pointers_made"),
+    THREE_POINTERS_ATTEMPTED(StatColumn.THREE_POINTERS_ATTEMPTED, "3-Pointers Attempted Per Game", "three_pointers_attempted"),
+    FREE_THROWS_MADE(StatColumn.FREE_THROWS_MADE, "Free Throws Made Per Game", "free_throws_made"),
+    FREE_THROWS_ATTEMPTED(StatColumn.FREE_THROWS_ATTEMPTED, "Free Throws Attempted Per Game", "free_throws_attempted"),
+    // Additional rebounding stats
+    OFFENSIVE_REBOUNDS(StatColumn.OFFENSIVE_REBOUNDS, "Offensive Rebounds Per Game", "offensive_rebounds"),
+    DEFENSIVE_REBOUNDS(StatColumn.DEFENSIVE_REBOUNDS, "Defensive Rebounds Per Game", "defensive_rebounds");
+
+    // Reads an integer column of the store, SeasonData.MISSING when absent
+    private interface IntReader {
+        int read(SeasonData data, int row);
+    }
+
+    private static final Map<String, StatAccessor> BY_NAME = new HashMap<>();
+
+    static {
+        for (StatAccessor accessor : values()) {
+            for (String name : accessor.names) {
+                BY_NAME.put(name, accessor);
+            }
+        }
+    }
+
+    private final StatColumn column;
+    private final IntReader intReader;
+    private final Function<PlayerStats, Integer> intExtractor;
+    private final String label;
+    private final List<String> names;
+
+    StatAccessor(StatColumn column, String label, String... names) {
+        this.column = column;
+        this.intReader = null;
+        this.intExtractor = null;
+        this.label = label;
+        this.names = List.of(names);
+    }
+
+    StatAccessor(String label, IntReader intReader, Function<PlayerStats, Integer> intExtractor, String... names) {
+        this.column = null;
+        this.intReader = intReader;
+        this.intExtractor = intExtractor;
+        this.label = label;
+        this.names = List.of(names);
+    }
+
+    // Case-insensitive lookup; throws IllegalArgumentException for unknown stats
+    public static StatAccessor resolve(String name) {
+        return find(name).orElseThrow(() -> new IllegalArgumentException("Unknown stat: " + name));
+    }
+
+    public static Optional<StatAccessor> find(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(BY_NAME.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    // Value for a store row, NaN when missing
+    public double read(SeasonData data, int row) {
+        if (column != null) {
+            return data.stat(column, row);
+        }
+        int value = intReader.read(data, row);
+        return value != SeasonData.MISSING ? value : Double.NaN;
+    }
+
+    // Null-aware primitive read from an entity, NaN when missing
+    public double applyAsDouble(PlayerStats stats) {
+        if (column != null) {
+            return column.extract(stats);
+        }
+        Integer value = intExtractor.apply(stats);
+        return value != null ? value : Double.NaN;
+    }
+
+    // Boxed read from an entity, null when missing
+    public Double getValue(PlayerStats stats) {
+        double value = applyAsDouble(stats);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+}
@@ -0,0 +1,94 @@
+package com.nba.service;
+
+import com.tdunning.math.stats.Centroid;
+import com.tdunning.math.stats.TDigest;
+
+import java.util.Collection;
+
+// Mergeable summary of one stat: count, min/max, mean and variance (Welford / Chan) plus a t-digest
+// for quantiles. Built once per season at load; multi-season summaries merge season summaries.
+// A MergingDigest compresses (mutates itself) on every read, so a season summary is sealed after
+// building: its centroids are copied into plain arrays and merges read only those copies.
+public class StatSummary {
+
+    private static final double COMPRESSION = 200;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double m2; // sum of squared deviations from the mean
+    private final TDigest digest = TDigest.createMergingDigest(COMPRESSION);
+    // Set by seal(); the digest is not read again after that
+    private double[] centroidMeans;
+    private int[] centroidCounts;
+
+    public void add(double value) {
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        digest.add(value);
+    }
+
+    public void merge(StatSummary other) {
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        if (other.centroidMeans == null) {
+            throw new IllegalStateException("Only sealed summaries can be merged");
+        }
+        for (int i = 0; i < other.centroidMeans.length; i++) {
+            digest.add(other.centroidMeans[i], other.centroidCounts[i]);
+        }
+    }
+
+    // Snapshots the digest's centroids; call once, from the building thread, before sharing the summary
+    public void seal() {
+        Collection<Centroid> centroids = digest.centroids();
+        double[] means = new double[centroids.size()];
+        int[] counts = new int[centroids.size()];
+        int i = 0;
+        for (Centroid centroid : centroids) {
+            means[i] = centroid.mean();
+            counts[i] = centroid.count();
+            i++;
+        }
+        centroidMeans = means;
+        centroidCounts = counts;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // Population standard deviation
+    public double getStdDev() {
+        return count > 0 ? Math.sqrt(m2 / count) : Double.NaN;
+    }
+
+    public double quantile(double q) {
+        return count > 0 ? digest.quantile(q) : Double.NaN;
+    }
+}
@@ -0,0 +1,129 @@
+package com.nba.service;
+
+import com.nba.dto.StatSummaryResponse;
+import com.nba.store.ColumnarSeasonStore;
+import com.nba.store.SeasonData;
+import com.nba.store.SeasonDataReloadedEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+// Per-season, per-stat summaries (min/max/mean/stddev/quantiles), materialized when the season store
+// loads. Each player-season counts once, through its canonical row (see RowBitmaps).
+@Service
+public class StatSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatSummaryService.class);
+
+    private static final List<Double> DEFAULT_QUANTILES = List.of(0.05, 0.25, 0.5, 0.75, 0.95);
+
+    @Autowired
+    private ColumnarSeasonStore seasonStore;
+
+    private volatile Summaries summaries;
+
+    // Season summaries of one snapshot: bySeason.get(stat)[year - firstYear]
+    private record Summaries(SeasonData data, Map<StatAccessor, StatSummary[]> bySeason) {
+    }
+
+    @PostConstruct
+    public void load() {
+        // The store has already loaded; its reload events only cover later snapshots
+        summaries = build(seasonStore.current());
+    }
+
+    @EventListener
+    public void onSeasonDataReloaded(SeasonDataReloadedEvent event) {
+        summaries = build(event.getData());
+    }
+
+    private Summaries build(SeasonData data) {
+        long start = System.currentTimeMillis();
+        Map<StatAccessor, StatSummary[]> bySeason = new EnumMap<>(StatAccessor.class);
+        int seasons = data.rowCount() == 0 ? 0 : data.lastYear() - data.firstYear() + 1;
+        for (StatAccessor stat : StatAccessor.values()) {
+            StatSummary[] perSeason = new StatSummary[seasons];
+            for (int i = 0; i < seasons; i++) {
+                perSeason[i] = new StatSummary();
+            }
+            bySeason.put(stat, perSeason);
+        }
+
+        BitSet canonical = data.bitmaps().canonical();
+        for (int i = 0; i < seasons; i++) {
+            int year = data.firstYear() + i;
+            int end = data.seasonEnd(year);
+            for (int row = canonical.nextSetBit(data.seasonStart(year)); row >= 0 && row < end; row = canonical.nextSetBit(row + 1)) {
+                for (StatAccessor stat : StatAccessor.values()) {
+                    double value = stat.read(data, row);
+                    if (!Double.isNaN(value)) {
+                        bySeason.get(stat)[i].add(value);
+                    }
+                }
+            }
+        }
+        for (StatSummary[] perSeason : bySeason.values()) {
+            for (StatSummary summary : perSeason) {
+                summary.seal();
+            }
+        }
+        log.info("Built stat summaries for {} seasons x {} stats in {} ms",
+            seasons, StatAccessor.values().length, System.currentTimeMillis() - start);
+        return new Summaries(data, bySeason);
+    }
+
+    // Summary of a stat over the given seasons (all loaded seasons when empty), merged from the season
+    // summaries without touching rows
+    public StatSummaryResponse getSummary(String statName, List<Integer> years, List<Double> quantiles) {
+        StatAccessor stat = StatAccessor.resolve(statName);
+        List<Double> requestedQuantiles = quantiles != null && !quantiles.isEmpty() ? quantiles : DEFAULT_QUANTILES;
+        for (double q : requestedQuantiles) {
+            if (!(q >= 0 && q <= 1)) {
+                throw new IllegalArgumentException("Quantiles must be between 0 and 1: " + q);
+            }
+        }
+
+        Summaries current = summaries;
+        SeasonData data = current.data();
+        StatSummary[] perSeason = current.bySeason().get(stat);
+        TreeSet<Integer> seasons = new TreeSet<>();
+        if (years == null || years.isEmpty()) {
+            for (int i = 0; i < perSeason.length; i++) {
+                seasons.add(data.firstYear() + i);
+            }
+        } else {
+            for (Integer year : years) {
+                int index = year != null ? year - data.firstYear() : -1;
+                if (index >= 0 && index < perSeason.length) seasons.add(year);
+            }
+        }
+
+        StatSummary merged = new StatSummary();
+        for (int year : seasons) {
+            merged.merge(perSeason[year - data.firstYear()]);
+        }
+
+        StatSummaryResponse response = new StatSummaryResponse();
+        response.setStat(statName);
+        response.setLabel(stat.getLabel());
+        response.setYears(new ArrayList<>(seasons));
+        response.setCount(merged.getCount());
+        if (merged.getCount() > 0) {
+            response.setMin(merged.getMin());
+            response.setMax(merged.getMax());
+            response.setMean(merged.getMean());
+            response.setStdDev(merged.getStdDev());
+            Map<String, Double> quantileValues = new LinkedHashMap<>();
+            for (double q : requestedQuantiles) {
+                quantileValues.put(String.valueOf(q), merged.quantile(q));
+            }
+            response.setQuantiles(quantileValues);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,104 @@
+package com.nba.store;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Holds the whole nba_stats table in memory as a columnar SeasonData snapshot, read from the
+// configured SeasonSource (the database, or the season CSVs in the csv profile).
+// Loaded once at startup; reload() swaps in a fresh snapshot after the table changes.
+// When nba.snapshot.path is set, every load from the source is also written there as a binary
+// SeasonSnapshot, and startup maps that file instead of reading the source (falling back to the
+// source when the file is missing, unusable, or stale: written from a source whose fingerprint has
+// changed since, e.g. after a re-import or edited CSVs).
+@Component
+public class ColumnarSeasonStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarSeasonStore.class);
+
+    @Autowired
+    private SeasonSource seasonSource;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${nba.snapshot.path:}")
+    private String snapshotPath;
+
+    private volatile SeasonData data = SeasonData.empty();
+
+    // Where the current snapshot came from: the source name, or "snapshot"
+    private volatile String loadedFrom = "none";
+
+    @PostConstruct
+    public void load() {
+        Path snapshot = snapshotFile();
+        if (snapshot != null && Files.exists(snapshot)) {
+            long start = System.nanoTime();
+            try {
+                SeasonData loaded = SeasonSnapshot.read(snapshot, seasonSource.fingerprint());
+                data = loaded;
+                loadedFrom = "snapshot";
+                log.info("Loaded {} rows ({} - {}) from snapshot {} in {} ms", loaded.rowCount(),
+                    loaded.firstYear(), loaded.lastYear(), snapshot, (System.nanoTime() - start) / 1_000_000);
+                eventPublisher.publishEvent(new SeasonDataReloadedEvent(loaded));
+                return;
+            } catch (IOException e) {
+                log.warn("Ignoring season snapshot, reading from {} instead: {}", seasonSource.name(), e.getMessage());
+            }
+        }
+        reload();
+    }
+
+    // Re-reads the nba_stats table; readers keep using the previous snapshot until the swap
+    public synchronized SeasonData reload() {
+        long start = System.currentTimeMillis();
+        // Taken before the rows, so a change made while reading leaves a snapshot that no longer matches
+        String fingerprint = snapshotFile() != null ? seasonSource.fingerprint() : null;
+        SeasonData loaded = SeasonData.of(seasonSource.findAll());
+        data = loaded;
+        loadedFrom = seasonSource.name();
+        log.info("Loaded {} rows ({} - {}) from {} into season store in {} ms", loaded.rowCount(),
+            loaded.firstYear(), loaded.lastYear(), seasonSource.name(), System.currentTimeMillis() - start);
+        writeSnapshot(loaded, fingerprint);
+        // Lets caches and indexes built on the previous snapshot refresh themselves
+        eventPublisher.publishEvent(new SeasonDataReloadedEvent(loaded));
+        return loaded;
+    }
+
+    private void writeSnapshot(SeasonData loaded, String fingerprint) {
+        Path snapshot = snapshotFile();
+        if (snapshot == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            SeasonSnapshot.write(loaded, fingerprint, snapshot);
+            log.info("Wrote season snapshot {} ({} KB) in {} ms", snapshot, Files.size(snapshot) / 1024,
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            // The store itself is fine; the next startup just reads the source again
+            log.warn("Could not write season snapshot {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    private Path snapshotFile() {
+        return snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    public String sourceName() {
+        return loadedFrom;
+    }
+
+    public SeasonData current() {
+        return data;
+    }
+}
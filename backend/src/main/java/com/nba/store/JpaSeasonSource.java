@@ -0,0 +1,35 @@
+package com.nba.store;
+
+import com.nba.entity.PlayerStats;
+import com.nba.repository.PlayerStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Reads the nba_stats table through JPA
+@Component
+@Profile("!csv")
+public class JpaSeasonSource implements SeasonSource {
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Override
+    public List<PlayerStats> findAll() {
+        return playerStatsRepository.findAll();
+    }
+
+    @Override
+    public String name() {
+        return "jpa";
+    }
+
+    // Row count and highest id: every import deletes and re-inserts rows, which moves the identity column
+    @Override
+    public String fingerprint() {
+        Object[] countAndMaxId = playerStatsRepository.countAndMaxId().get(0);
+        return "jpa:" + countAndMaxId[0] + ":" + countAndMaxId[1];
+    }
+}
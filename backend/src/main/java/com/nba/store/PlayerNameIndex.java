@@ -0,0 +1,147 @@
+package com.nba.store;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+// In-memory player name search over the store's player dictionary.
+// Names are accent- and case-folded. A sorted array of word-start suffixes answers prefix queries,
+// and trigram posting lists narrow down substring matches.
+// Results are ranked: name prefix, then word prefix, then substring; alphabetical within each group.
+public final class PlayerNameIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final String[] names;
+    private final String[] folded;
+
+    // Folded name suffixes that start at a word boundary, sorted, with the owning player code
+    private final String[] prefixKeys;
+    private final int[] prefixCodes;
+
+    // Trigram of folded characters -> ascending player codes containing it
+    private final Map<Long, int[]> trigrams;
+
+    public PlayerNameIndex(String[] names) {
+        this.names = names;
+        this.folded = new String[names.length];
+        for (int code = 0; code < names.length; code++) {
+            folded[code] = fold(names[code]);
+        }
+
+        List<Map.Entry<String, Integer>> keys = new ArrayList<>();
+        for (int code = 0; code < names.length; code++) {
+            String name = folded[code];
+            for (int i = 0; i < name.length(); i++) {
+                if (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1))) {
+                    if (Character.isLetterOrDigit(name.charAt(i))) {
+                        keys.add(Map.entry(name.substring(i), code));
+                    }
+                }
+            }
+        }
+        keys.sort(Map.Entry.<String, Integer>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+        prefixKeys = new String[keys.size()];
+        prefixCodes = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            prefixKeys[i] = keys.get(i).getKey();
+            prefixCodes[i] = keys.get(i).getValue();
+        }
+
+        Map<Long, BitSet> postings = new HashMap<>();
+        for (int code = 0; code < names.length; code++) {
+            String name = folded[code];
+            for (int i = 0; i + 3 <= name.length(); i++) {
+                postings.computeIfAbsent(trigram(name, i), key -> new BitSet()).set(code);
+            }
+        }
+        trigrams = new HashMap<>(postings.size() * 2);
+        postings.forEach((key, codes) -> trigrams.put(key, codes.stream().toArray()));
+    }
+
+    // Lowercases and strips accents so "Dončić" matches "doncic"
+    public static String fold(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    public List<String> search(String query, int limit) {
+        String q = fold(query.trim());
+        List<String> result = new ArrayList<>(Math.min(limit, 64));
+        if (q.isEmpty() || limit <= 0) {
+            for (int code = 0; code < names.length && result.size() < limit; code++) {
+                result.add(names[code]);
+            }
+            return result;
+        }
+
+        // Name and word prefixes from the sorted suffix array
+        BitSet namePrefix = new BitSet(names.length);
+        BitSet wordPrefix = new BitSet(names.length);
+        int i = lowerBound(q);
+        while (i < prefixKeys.length && prefixKeys[i].startsWith(q)) {
+            int code = prefixCodes[i++];
+            if (folded[code].startsWith(q)) {
+                namePrefix.set(code);
+            } else {
+                wordPrefix.set(code);
+            }
+        }
+        wordPrefix.andNot(namePrefix);
+        appendCodes(namePrefix, result, limit);
+        appendCodes(wordPrefix, result, limit);
+        if (result.size() >= limit) {
+            return result;
+        }
+
+        // Remaining substring matches, candidates narrowed by trigrams when the query is long enough
+        BitSet substring = new BitSet(names.length);
+        if (q.length() >= 3) {
+            int[] candidates = null;
+            for (int offset = 0; offset + 3 <= q.length(); offset++) {
+                int[] posting = trigrams.get(trigram(q, offset));
+                if (posting == null) {
+                    return result;
+                }
+                if (candidates == null || posting.length < candidates.length) {
+                    candidates = posting;
+                }
+            }
+            for (int code : candidates) {
+                if (folded[code].contains(q)) substring.set(code);
+            }
+        } else {
+            for (int code = 0; code < names.length; code++) {
+                if (folded[code].contains(q)) substring.set(code);
+            }
+        }
+        substring.andNot(namePrefix);
+        substring.andNot(wordPrefix);
+        appendCodes(substring, result, limit);
+        return result;
+    }
+
+    private void appendCodes(BitSet codes, List<String> result, int limit) {
+        for (int code = codes.nextSetBit(0); code >= 0 && result.size() < limit; code = codes.nextSetBit(code + 1)) {
+            result.add(names[code]);
+        }
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = prefixKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prefixKeys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
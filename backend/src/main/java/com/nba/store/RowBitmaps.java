@@ -0,0 +1,115 @@
+package com.nba.store;
+
+import java.util.*;
+
+// Per-value bitmap indexes over the row space of a SeasonData snapshot: one BitSet of rows per
+// position, team, age and award id, plus the per-team rows (all but the 2TM/3TM aggregates) and the
+// canonical rows.
+// The canonical row of a player-season is its 2TM/3TM aggregate when the player was traded, otherwise
+// the single-team row; each player-season has exactly one canonical row (rows without a team always are).
+// Returned bitmaps are shared: callers combine them into copies and must not modify them.
+public final class RowBitmaps {
+
+    private static final BitSet EMPTY = new BitSet(0);
+
+    private final int rowCount;
+    private final BitSet[] byPosition;
+    private final BitSet[] byTeam;
+    private final int minAge;
+    private final BitSet[] byAge;
+    private final BitSet[] byAward;
+    private final BitSet perTeam;
+    private final BitSet canonical;
+
+    RowBitmaps(SeasonData data) {
+        rowCount = data.rowCount();
+        byPosition = newBitmaps(data.positionCount());
+        byTeam = newBitmaps(data.teamCount());
+        BitSet multiTeam = new BitSet(rowCount);
+
+        int lowestAge = Integer.MAX_VALUE;
+        int highestAge = -1;
+        for (int row = 0; row < rowCount; row++) {
+            int age = data.age(row);
+            if (age >= 0) {
+                lowestAge = Math.min(lowestAge, age);
+                highestAge = Math.max(highestAge, age);
+            }
+        }
+        minAge = highestAge >= 0 ? lowestAge : 0;
+        byAge = newBitmaps(highestAge >= 0 ? highestAge - lowestAge + 1 : 0);
+        byAward = newBitmaps(data.awardCount());
+
+        for (int row = 0; row < rowCount; row++) {
+            if (data.positionCode(row) != SeasonData.NO_CODE) byPosition[data.positionCode(row)].set(row);
+            if (data.teamCode(row) != SeasonData.NO_CODE) byTeam[data.teamCode(row)].set(row);
+            if (data.isMultiTeamRow(row)) multiTeam.set(row);
+            if (data.age(row) >= 0) byAge[data.age(row) - minAge].set(row);
+            for (int i = 0; i < data.awardCount(row); i++) {
+                byAward[data.awardId(row, i)].set(row);
+            }
+        }
+
+        perTeam = new BitSet(rowCount);
+        perTeam.set(0, rowCount);
+        perTeam.andNot(multiTeam);
+
+        // Player rows are in year order, so the rows of one player-season are adjacent
+        canonical = new BitSet(rowCount);
+        for (int code = 0; code < data.playerCount(); code++) {
+            RowList rows = data.rowsOfPlayer(code);
+            int groupStart = 0;
+            while (groupStart < rows.size()) {
+                int year = data.year(rows.get(groupStart));
+                int groupEnd = groupStart;
+                boolean traded = false;
+                while (groupEnd < rows.size() && data.year(rows.get(groupEnd)) == year) {
+                    traded |= multiTeam.get(rows.get(groupEnd));
+                    groupEnd++;
+                }
+                for (int i = groupStart; i < groupEnd; i++) {
+                    int row = rows.get(i);
+                    if (!traded || multiTeam.get(row) || data.teamCode(row) == SeasonData.NO_CODE) {
+                        canonical.set(row);
+                    }
+                }
+                groupStart = groupEnd;
+            }
+        }
+    }
+
+    private BitSet[] newBitmaps(int count) {
+        BitSet[] bitmaps = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new BitSet(rowCount);
+        }
+        return bitmaps;
+    }
+
+    public BitSet position(int code) {
+        return byPosition[code];
+    }
+
+    public BitSet team(int code) {
+        return byTeam[code];
+    }
+
+    public BitSet age(int age) {
+        int index = age - minAge;
+        return index >= 0 && index < byAge.length ? byAge[index] : EMPTY;
+    }
+
+    public BitSet award(int awardId) {
+        return byAward[awardId];
+    }
+
+    // Individual team rows: everything except the 2TM/3TM aggregates
+    public BitSet perTeam() {
+        return perTeam;
+    }
+
+    // One row per player-season (see class comment)
+    public BitSet canonical() {
+        return canonical;
+    }
+}
@@ -0,0 +1,49 @@
+package com.nba.store;
+
+import java.util.Arrays;
+
+// Growable list of primitive row indices into a SeasonData snapshot
+public class RowList {
+    private int[] rows;
+    private int size;
+
+    public RowList() {
+        this(64);
+    }
+
+    public RowList(int initialCapacity) {
+        this.rows = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public RowList(int[] rows) {
+        this.rows = rows.length > 0 ? rows : new int[1];
+        this.size = rows.length;
+    }
+
+    public void add(int row) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+        }
+        rows[size++] = row;
+    }
+
+    public void addAll(RowList other) {
+        if (size + other.size > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(size * 2, size + other.size));
+        }
+        System.arraycopy(other.rows, 0, rows, size, other.size);
+        size += other.size;
+    }
+
+    public int get(int index) {
+        return rows[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,450 @@
+package com.nba.store;
+
+import com.nba.entity.PlayerStats;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+// Immutable columnar snapshot of the nba_stats table.
+// Rows are ordered by year, then points descending, so every season is a contiguous row range.
+public final class SeasonData {
+
+    // Sentinel for missing integer values (age, games); missing doubles are NaN
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    // Dictionary code for a null team or position
+    public static final int NO_CODE = -1;
+
+    private final Columns columns;
+
+    private final int rowCount;
+
+    // Integer columns
+    private final int[] years;
+    private final int[] ages;
+    private final int[] gamesPlayed;
+    private final int[] gamesStarted;
+
+    // Floating point columns indexed by StatColumn.ordinal()
+    private final double[][] stats;
+
+    // Dictionary encoded string columns (dictionaries are sorted, so codes follow name order)
+    private final String[] playerDictionary;
+    private final int[] playerCodes;
+    private final String[] teamDictionary;
+    private final int[] teamCodes;
+    private final boolean[] multiTeamCodes;
+    private final String[] positionDictionary;
+    private final int[] positionCodes;
+
+    // Awards column tokenized at load: award ids of row r are awardIds[awardOffsets[r] .. awardOffsets[r + 1]),
+    // ids index the sorted awardDictionary
+    private final String[] awardDictionary;
+    private final int[] awardOffsets;
+    private final short[] awardIds;
+
+    // Player index: rows of player code p are playerRows[playerRowOffsets[p] .. playerRowOffsets[p + 1]), in year order
+    private final int[] playerRowOffsets;
+    private final int[] playerRows;
+
+    private final PlayerNameIndex playerNameIndex;
+    private final RowBitmaps bitmaps;
+
+    // Row count plus a checksum of every column, used as the dataset version (HTTP ETags, cache keys)
+    private final String version;
+
+    // Season row ranges: rows of year y are [yearOffsets[y - firstYear], yearOffsets[y - firstYear + 1])
+    private final int firstYear;
+    private final int[] yearOffsets;
+
+    // The stored columns of a snapshot: everything else (indexes, bitmaps, version) is derived from them.
+    // Filled from entity rows by of(), or read back from a binary snapshot by SeasonSnapshot.
+    static final class Columns {
+        int rowCount;
+        int[] years;
+        int[] ages;
+        int[] gamesPlayed;
+        int[] gamesStarted;
+        double[][] stats;
+        String[] playerDictionary;
+        int[] playerCodes;
+        String[] teamDictionary;
+        int[] teamCodes;
+        String[] positionDictionary;
+        int[] positionCodes;
+        String[] awardDictionary;
+        int[] awardOffsets;
+        short[] awardIds;
+
+        static Columns of(List<PlayerStats> source) {
+            List<PlayerStats> rows = new ArrayList<>(source);
+            rows.sort(Comparator.comparing(PlayerStats::getYear)
+                .thenComparing(PlayerStats::getPoints, Comparator.nullsLast(Comparator.reverseOrder())));
+
+            Columns columns = new Columns();
+            int rowCount = rows.size();
+            columns.rowCount = rowCount;
+            columns.years = new int[rowCount];
+            columns.ages = new int[rowCount];
+            columns.gamesPlayed = new int[rowCount];
+            columns.gamesStarted = new int[rowCount];
+            columns.stats = new double[StatColumn.values().length][rowCount];
+            columns.playerCodes = new int[rowCount];
+            columns.teamCodes = new int[rowCount];
+            columns.positionCodes = new int[rowCount];
+            columns.awardOffsets = new int[rowCount + 1];
+
+            columns.playerDictionary = buildDictionary(rows, PlayerStats::getPlayer);
+            columns.teamDictionary = buildDictionary(rows, PlayerStats::getTeam);
+            columns.positionDictionary = buildDictionary(rows, PlayerStats::getPosition);
+            columns.awardDictionary = buildAwardDictionary(rows);
+
+            for (int row = 0; row < rowCount; row++) {
+                PlayerStats stat = rows.get(row);
+                columns.years[row] = stat.getYear();
+                columns.ages[row] = toInt(stat.getAge());
+                columns.gamesPlayed[row] = toInt(stat.getGamesPlayed());
+                columns.gamesStarted[row] = toInt(stat.getGamesStarted());
+                for (StatColumn column : StatColumn.values()) {
+                    columns.stats[column.ordinal()][row] = column.extract(stat);
+                }
+                columns.playerCodes[row] = Arrays.binarySearch(columns.playerDictionary, stat.getPlayer());
+                columns.teamCodes[row] = encode(columns.teamDictionary, stat.getTeam());
+                columns.positionCodes[row] = encode(columns.positionDictionary, stat.getPosition());
+                columns.awardOffsets[row + 1] = columns.awardOffsets[row] + awardTokens(stat.getAwards()).size();
+            }
+            columns.awardIds = new short[columns.awardOffsets[rowCount]];
+            for (int row = 0; row < rowCount; row++) {
+                int offset = columns.awardOffsets[row];
+                for (String token : awardTokens(rows.get(row).getAwards())) {
+                    columns.awardIds[offset++] = (short) Arrays.binarySearch(columns.awardDictionary, token);
+                }
+            }
+            return columns;
+        }
+    }
+
+    private SeasonData(Columns columns) {
+        this.columns = columns;
+        rowCount = columns.rowCount;
+        years = columns.years;
+        ages = columns.ages;
+        gamesPlayed = columns.gamesPlayed;
+        gamesStarted = columns.gamesStarted;
+        stats = columns.stats;
+        playerDictionary = columns.playerDictionary;
+        playerCodes = columns.playerCodes;
+        teamDictionary = columns.teamDictionary;
+        teamCodes = columns.teamCodes;
+        positionDictionary = columns.positionDictionary;
+        positionCodes = columns.positionCodes;
+        awardDictionary = columns.awardDictionary;
+        awardOffsets = columns.awardOffsets;
+        awardIds = columns.awardIds;
+        if (awardDictionary.length > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many distinct awards: " + awardDictionary.length);
+        }
+
+        multiTeamCodes = new boolean[teamDictionary.length];
+        for (int code = 0; code < teamDictionary.length; code++) {
+            multiTeamCodes[code] = teamDictionary[code].contains("TM");
+        }
+
+        playerRowOffsets = new int[playerDictionary.length + 1];
+        for (int row = 0; row < rowCount; row++) {
+            playerRowOffsets[playerCodes[row] + 1]++;
+        }
+        for (int code = 0; code < playerDictionary.length; code++) {
+            playerRowOffsets[code + 1] += playerRowOffsets[code];
+        }
+        playerRows = new int[rowCount];
+        int[] next = Arrays.copyOf(playerRowOffsets, playerDictionary.length);
+        for (int row = 0; row < rowCount; row++) {
+            playerRows[next[playerCodes[row]]++] = row;
+        }
+
+        if (rowCount == 0) {
+            firstYear = 0;
+            yearOffsets = new int[] {0};
+        } else {
+            firstYear = years[0];
+            int span = years[rowCount - 1] - firstYear + 1;
+            yearOffsets = new int[span + 1];
+            int row = 0;
+            for (int i = 0; i < span; i++) {
+                yearOffsets[i] = row;
+                while (row < rowCount && years[row] == firstYear + i) {
+                    row++;
+                }
+            }
+            yearOffsets[span] = rowCount;
+        }
+
+        playerNameIndex = new PlayerNameIndex(playerDictionary);
+        // Built last: it reads the columns above through the row accessors
+        bitmaps = new RowBitmaps(this);
+        version = rowCount + "-" + Long.toHexString(checksum());
+    }
+
+    private long checksum() {
+        CRC32C crc = new CRC32C();
+        for (String[] dictionary : List.of(playerDictionary, teamDictionary, positionDictionary, awardDictionary)) {
+            for (String value : dictionary) {
+                crc.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(7 * Integer.BYTES + stats.length * Double.BYTES);
+        for (int row = 0; row < rowCount; row++) {
+            buffer.clear();
+            buffer.putInt(years[row]).putInt(ages[row]).putInt(gamesPlayed[row]).putInt(gamesStarted[row])
+                .putInt(playerCodes[row]).putInt(teamCodes[row]).putInt(positionCodes[row]);
+            for (double[] column : stats) {
+                buffer.putLong(Double.doubleToLongBits(column[row]));
+            }
+            crc.update(buffer.array(), 0, buffer.position());
+            for (int i = awardOffsets[row]; i < awardOffsets[row + 1]; i++) {
+                crc.update(awardIds[i]);
+            }
+        }
+        return crc.getValue();
+    }
+
+    public static SeasonData of(List<PlayerStats> rows) {
+        return new SeasonData(Columns.of(rows));
+    }
+
+    // From columns read back from a binary snapshot
+    static SeasonData of(Columns columns) {
+        return new SeasonData(columns);
+    }
+
+    public static SeasonData empty() {
+        return of(Collections.emptyList());
+    }
+
+    Columns columns() {
+        return columns;
+    }
+
+    private static String[] buildDictionary(List<PlayerStats> rows, Function<PlayerStats, String> field) {
+        TreeSet<String> values = new TreeSet<>();
+        for (PlayerStats row : rows) {
+            String value = field.apply(row);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values.toArray(new String[0]);
+    }
+
+    // Distinct trimmed entries of the comma-separated awards column, sorted
+    private static String[] buildAwardDictionary(List<PlayerStats> rows) {
+        TreeSet<String> values = new TreeSet<>();
+        for (PlayerStats row : rows) {
+            values.addAll(awardTokens(row.getAwards()));
+        }
+        return values.toArray(new String[0]);
+    }
+
+    // Tokens of one awards cell, in cell order without duplicates
+    private static Collection<String> awardTokens(String awards) {
+        if (awards == null || awards.isBlank()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : awards.split(",")) {
+            if (!token.isBlank()) tokens.add(token.trim());
+        }
+        return tokens;
+    }
+
+    private static int encode(String[] dictionary, String value) {
+        return value != null ? Arrays.binarySearch(dictionary, value) : NO_CODE;
+    }
+
+    private static int toInt(Integer value) {
+        return value != null ? value : MISSING;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int firstYear() {
+        return firstYear;
+    }
+
+    public int lastYear() {
+        return rowCount == 0 ? 0 : firstYear + yearOffsets.length - 2;
+    }
+
+    // First row of the season, or an empty range if the year isn't loaded
+    public int seasonStart(int year) {
+        int index = year - firstYear;
+        if (rowCount == 0 || index < 0 || index >= yearOffsets.length - 1) {
+            return 0;
+        }
+        return yearOffsets[index];
+    }
+
+    // Exclusive end row of the season
+    public int seasonEnd(int year) {
+        int index = year - firstYear;
+        if (rowCount == 0 || index < 0 || index >= yearOffsets.length - 1) {
+            return 0;
+        }
+        return yearOffsets[index + 1];
+    }
+
+    public int year(int row) {
+        return years[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public int gamesPlayed(int row) {
+        return gamesPlayed[row];
+    }
+
+    public int gamesStarted(int row) {
+        return gamesStarted[row];
+    }
+
+    public double stat(StatColumn column, int row) {
+        return stats[column.ordinal()][row];
+    }
+
+    public double[] column(StatColumn column) {
+        return stats[column.ordinal()];
+    }
+
+    public int playerCode(int row) {
+        return playerCodes[row];
+    }
+
+    public String player(int row) {
+        return playerDictionary[playerCodes[row]];
+    }
+
+    public int teamCode(int row) {
+        return teamCodes[row];
+    }
+
+    public String team(int row) {
+        int code = teamCodes[row];
+        return code != NO_CODE ? teamDictionary[code] : null;
+    }
+
+    // True for the combined 2TM/3TM/... row of a player who changed teams mid-season
+    public boolean isMultiTeamRow(int row) {
+        int code = teamCodes[row];
+        return code != NO_CODE && multiTeamCodes[code];
+    }
+
+    public int positionCode(int row) {
+        return positionCodes[row];
+    }
+
+    public String position(int row) {
+        int code = positionCodes[row];
+        return code != NO_CODE ? positionDictionary[code] : null;
+    }
+
+    public int awardCount(int row) {
+        return awardOffsets[row + 1] - awardOffsets[row];
+    }
+
+    // index-th award id of the row
+    public int awardId(int row, int index) {
+        return awardIds[awardOffsets[row] + index];
+    }
+
+    public String awardName(int awardId) {
+        return awardDictionary[awardId];
+    }
+
+    // Award id of a token (e.g. "MVP-1"), NO_CODE if no row has it
+    public int awardIdOf(String token) {
+        int id = token != null ? Arrays.binarySearch(awardDictionary, token) : NO_CODE;
+        return id >= 0 ? id : NO_CODE;
+    }
+
+    // Number of distinct awards
+    public int awardCount() {
+        return awardDictionary.length;
+    }
+
+    // Distinct award tokens, sorted
+    public List<String> awards() {
+        return Collections.unmodifiableList(Arrays.asList(awardDictionary));
+    }
+
+    // All rows of a player in year order; rows of the same season are adjacent
+    public RowList rowsOfPlayer(int playerCode) {
+        return new RowList(Arrays.copyOfRange(playerRows, playerRowOffsets[playerCode], playerRowOffsets[playerCode + 1]));
+    }
+
+    // Dictionary entry for a player code
+    public String playerName(int playerCode) {
+        return playerDictionary[playerCode];
+    }
+
+    // First player code sorting after name (the insertion point when the name isn't in the dictionary)
+    public int playerCodeAfter(String player) {
+        int code = Arrays.binarySearch(playerDictionary, player);
+        return code >= 0 ? code + 1 : -code - 1;
+    }
+
+    public PlayerNameIndex playerNameIndex() {
+        return playerNameIndex;
+    }
+
+    public RowBitmaps bitmaps() {
+        return bitmaps;
+    }
+
+    public int playerCount() {
+        return playerDictionary.length;
+    }
+
+    public int teamCount() {
+        return teamDictionary.length;
+    }
+
+    public int positionCount() {
+        return positionDictionary.length;
+    }
+
+    // Dictionary code for a team name, or NO_CODE if the team never appears
+    public int teamCodeOf(String team) {
+        int code = team != null ? Arrays.binarySearch(teamDictionary, team) : NO_CODE;
+        return code >= 0 ? code : NO_CODE;
+    }
+
+    public int positionCodeOf(String position) {
+        int code = position != null ? Arrays.binarySearch(positionDictionary, position) : NO_CODE;
+        return code >= 0 ? code : NO_CODE;
+    }
+
+    public int playerCodeOf(String player) {
+        int code = player != null ? Arrays.binarySearch(playerDictionary, player) : NO_CODE;
+        return code >= 0 ? code : NO_CODE;
+    }
+
+    public List<String> players() {
+        return Collections.unmodifiableList(Arrays.asList(playerDictionary));
+    }
+
+    public List<String> teams() {
+        return Collections.unmodifiableList(Arrays.asList(teamDictionary));
+    }
+}
@@ -0,0 +1,14 @@
+package com.nba.store;
+
+// Published by ColumnarSeasonStore after a new snapshot has been swapped in
+public class SeasonDataReloadedEvent {
+    private final SeasonData data;
+
+    public SeasonDataReloadedEvent(SeasonData data) {
+        this.data = data;
+    }
+
+    public SeasonData getData() {
+        return data;
+    }
+}
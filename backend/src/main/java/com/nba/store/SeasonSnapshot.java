@@ -0,0 +1,233 @@
+package com.nba.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Binary file holding the stored columns of a SeasonData, so a restart can skip the database/CSV read.
+//
+// Layout (little endian):
+//   int magic "NBAS", int format version
+//   string dataset version, string source fingerprint (see SeasonSource), int stat column count, stat column names (a changed StatColumn enum rejects the file)
+//   int row count, int award id count
+//   player, team, position and award dictionaries: int size, then each entry as a string
+//   int columns years, ages, gamesPlayed, gamesStarted, playerCodes, teamCodes, positionCodes (rowCount each)
+//   double stat columns in StatColumn order (rowCount each)
+//   int awardOffsets (rowCount + 1), short awardIds
+//   long CRC32C of everything above
+// Strings are an int byte length followed by UTF-8 bytes.
+public final class SeasonSnapshot {
+
+    private static final int MAGIC = 0x5341424E; // "NBAS" in file byte order
+    private static final int FORMAT_VERSION = 2;
+
+    private SeasonSnapshot() {
+    }
+
+    // Writes to a temporary file next to the target, then renames it, so readers never see a partial file
+    public static void write(SeasonData data, String sourceFingerprint, Path file) throws IOException {
+        SeasonData.Columns columns = data.columns();
+        StatColumn[] statColumns = StatColumn.values();
+
+        ByteBuffer buffer = ByteBuffer.allocate(size(data, sourceFingerprint)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+        putString(buffer, data.version());
+        putString(buffer, sourceFingerprint);
+        buffer.putInt(statColumns.length);
+        for (StatColumn column : statColumns) {
+            putString(buffer, column.name());
+        }
+        buffer.putInt(columns.rowCount).putInt(columns.awardIds.length);
+        for (String[] dictionary : dictionaries(columns)) {
+            buffer.putInt(dictionary.length);
+            for (String value : dictionary) {
+                putString(buffer, value);
+            }
+        }
+        for (int[] column : intColumns(columns)) {
+            buffer.asIntBuffer().put(column);
+            buffer.position(buffer.position() + column.length * Integer.BYTES);
+        }
+        for (double[] column : columns.stats) {
+            buffer.asDoubleBuffer().put(column);
+            buffer.position(buffer.position() + column.length * Double.BYTES);
+        }
+        buffer.asIntBuffer().put(columns.awardOffsets);
+        buffer.position(buffer.position() + columns.awardOffsets.length * Integer.BYTES);
+        buffer.asShortBuffer().put(columns.awardIds);
+        buffer.position(buffer.position() + columns.awardIds.length * Short.BYTES);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(crc.getValue());
+        buffer.flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Maps the file and reads the columns back; IOException for a missing, truncated, corrupt or
+    // incompatible file, or one written from a source whose fingerprint differs from sourceFingerprint
+    public static SeasonData read(Path file, String sourceFingerprint) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (buffer.remaining() < 2 * Integer.BYTES + Long.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a season snapshot: " + file);
+            }
+            int format = buffer.getInt();
+            if (format != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format " + format + " (expected " + FORMAT_VERSION + ")");
+            }
+            int end = buffer.limit() - Long.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().position(0).limit(end));
+            if (crc.getValue() != buffer.getLong(end)) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+            buffer.limit(end);
+
+            String version = getString(buffer);
+            String fingerprint = getString(buffer);
+            if (!fingerprint.equals(sourceFingerprint)) {
+                throw new IOException("Snapshot is stale: written from " + fingerprint + ", source is now " + sourceFingerprint);
+            }
+            StatColumn[] statColumns = StatColumn.values();
+            int statCount = buffer.getInt();
+            if (statCount != statColumns.length) {
+                throw new IOException("Snapshot has " + statCount + " stat columns, expected " + statColumns.length);
+            }
+            for (StatColumn column : statColumns) {
+                String name = getString(buffer);
+                if (!name.equals(column.name())) {
+                    throw new IOException("Snapshot stat column " + name + " where " + column.name() + " was expected");
+                }
+            }
+
+            SeasonData.Columns columns = new SeasonData.Columns();
+            int rowCount = buffer.getInt();
+            columns.rowCount = rowCount;
+            int awardIdCount = buffer.getInt();
+            columns.playerDictionary = getDictionary(buffer);
+            columns.teamDictionary = getDictionary(buffer);
+            columns.positionDictionary = getDictionary(buffer);
+            columns.awardDictionary = getDictionary(buffer);
+            columns.years = getInts(buffer, rowCount);
+            columns.ages = getInts(buffer, rowCount);
+            columns.gamesPlayed = getInts(buffer, rowCount);
+            columns.gamesStarted = getInts(buffer, rowCount);
+            columns.playerCodes = getInts(buffer, rowCount);
+            columns.teamCodes = getInts(buffer, rowCount);
+            columns.positionCodes = getInts(buffer, rowCount);
+            columns.stats = new double[statColumns.length][];
+            for (int i = 0; i < statColumns.length; i++) {
+                columns.stats[i] = new double[rowCount];
+                buffer.asDoubleBuffer().get(columns.stats[i]);
+                buffer.position(buffer.position() + rowCount * Double.BYTES);
+            }
+            columns.awardOffsets = getInts(buffer, rowCount + 1);
+            columns.awardIds = new short[awardIdCount];
+            buffer.asShortBuffer().get(columns.awardIds);
+            buffer.position(buffer.position() + awardIdCount * Short.BYTES);
+            if (buffer.hasRemaining()) {
+                throw new IOException("Trailing bytes in snapshot: " + file);
+            }
+
+            SeasonData data = SeasonData.of(columns);
+            // The dataset checksum is recomputed from the columns, so this also catches encoding drift
+            if (!data.version().equals(version)) {
+                throw new IOException("Snapshot version " + version + " does not match its contents (" + data.version() + ")");
+            }
+            return data;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException, negative sizes, codes outside a dictionary, ...
+            throw new IOException("Malformed season snapshot " + file + ": " + e, e);
+        }
+    }
+
+    private static int size(SeasonData data, String sourceFingerprint) {
+        SeasonData.Columns columns = data.columns();
+        long size = 2 * Integer.BYTES + stringSize(data.version()) + stringSize(sourceFingerprint) + Integer.BYTES;
+        for (StatColumn column : StatColumn.values()) {
+            size += stringSize(column.name());
+        }
+        size += 2 * Integer.BYTES;
+        for (String[] dictionary : dictionaries(columns)) {
+            size += Integer.BYTES;
+            for (String value : dictionary) {
+                size += stringSize(value);
+            }
+        }
+        size += 7L * columns.rowCount * Integer.BYTES;
+        size += (long) columns.stats.length * columns.rowCount * Double.BYTES;
+        size += (long) (columns.rowCount + 1) * Integer.BYTES;
+        size += (long) columns.awardIds.length * Short.BYTES;
+        size += Long.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Season snapshot too large: " + size + " bytes");
+        }
+        return (int) size;
+    }
+
+    private static String[][] dictionaries(SeasonData.Columns columns) {
+        return new String[][] {columns.playerDictionary, columns.teamDictionary, columns.positionDictionary, columns.awardDictionary};
+    }
+
+    private static int[][] intColumns(SeasonData.Columns columns) {
+        return new int[][] {columns.years, columns.ages, columns.gamesPlayed, columns.gamesStarted,
+            columns.playerCodes, columns.teamCodes, columns.positionCodes};
+    }
+
+    private static int stringSize(String value) {
+        return Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String[] getDictionary(ByteBuffer buffer) {
+        String[] dictionary = new String[buffer.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = getString(buffer);
+        }
+        return dictionary;
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+}
@@ -0,0 +1,19 @@
+package com.nba.store;
+
+import com.nba.entity.PlayerStats;
+
+import java.util.List;
+
+// Where the season store reads the nba_stats rows from: the database (default) or the season CSVs
+// (csv profile, no database at all)
+public interface SeasonSource {
+
+    List<PlayerStats> findAll();
+
+    // Short name for logs, e.g. "jpa" or "csv"
+    String name();
+
+    // Cheap identifier of the current contents, read without loading the rows; it changes when the
+    // rows are re-imported or the files edited. A season snapshot is only used while it matches.
+    String fingerprint();
+}
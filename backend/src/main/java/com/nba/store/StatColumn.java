@@ -0,0 +1,44 @@
+package com.nba.store;
+
+import com.nba.entity.PlayerStats;
+
+import java.util.function.Function;
+
+// Floating point stat columns held by SeasonData, one double[] per entry
+public enum StatColumn {
+    MINUTES_PER_GAME(PlayerStats::getMinutesPerGame),
+    FIELD_GOALS_MADE(PlayerStats::getFieldGoalsMade),
+    FIELD_GOALS_ATTEMPTED(PlayerStats::getFieldGoalsAttempted),
+    FIELD_GOAL_PERCENTAGE(PlayerStats::getFieldGoalPercentage),
+    THREE_POINTERS_MADE(PlayerStats::getThreePointersMade),
+    THREE_POINTERS_ATTEMPTED(PlayerStats::getThreePointersAttempted),
+    THREE_POINT_PERCENTAGE(PlayerStats::getThreePointPercentage),
+    TWO_POINTERS_MADE(PlayerStats::getTwoPointersMade),
+    TWO_POINTERS_ATTEMPTED(PlayerStats::getTwoPointersAttempted),
+    TWO_POINT_PERCENTAGE(PlayerStats::getTwoPointPercentage),
+    EFFECTIVE_FIELD_GOAL_PERCENTAGE(PlayerStats::getEffectiveFieldGoalPercentage),
+    FREE_THROWS_MADE(PlayerStats::getFreeThrowsMade),
+    FREE_THROWS_ATTEMPTED(PlayerStats::getFreeThrowsAttempted),
+    FREE_THROW_PERCENTAGE(PlayerStats::getFreeThrowPercentage),
+    OFFENSIVE_REBOUNDS(PlayerStats::getOffensiveRebounds),
+    DEFENSIVE_REBOUNDS(PlayerStats::getDefensiveRebounds),
+    TOTAL_REBOUNDS(PlayerStats::getTotalRebounds),
+    ASSISTS(PlayerStats::getAssists),
+    STEALS(PlayerStats::getSteals),
+    BLOCKS(PlayerStats::getBlocks),
+    TURNOVERS(PlayerStats::getTurnovers),
+    PERSONAL_FOULS(PlayerStats::getPersonalFouls),
+    POINTS(PlayerStats::getPoints);
+
+    private final Function<PlayerStats, Double> extractor;
+
+    StatColumn(Function<PlayerStats, Double> extractor) {
+        this.extractor = extractor;
+    }
+
+    // Value from the entity, NaN when the stat wasn't tracked
+    public double extract(PlayerStats stats) {
+        Double value = extractor.apply(stats);
+        return value != null ? value : Double.NaN;
+    }
+}
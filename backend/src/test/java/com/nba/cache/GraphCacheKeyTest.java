@@ -0,0 +1,63 @@
+package com.nba.cache;
+
+import com.nba.dto.GraphRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class GraphCacheKeyTest {
+
+    private static GraphRequest request() {
+        GraphRequest request = new GraphRequest();
+        request.setGraphType("histogram");
+        request.setStat("points");
+        request.setBinCount(20);
+        return request;
+    }
+
+    @Test
+    void filterOrderAndDuplicatesDoNotChangeTheKey() {
+        GraphRequest first = request();
+        first.setPositions(List.of("PG", "C"));
+        first.setTeamsFilter(List.of("LAL", "BOS", "LAL"));
+        GraphRequest second = request();
+        second.setPositions(List.of("C", "PG"));
+        second.setTeamsFilter(List.of("BOS", "LAL"));
+        assertEquals(GraphCacheKey.of(first), GraphCacheKey.of(second));
+    }
+
+    @Test
+    void allAndEmptyAndMissingFiltersAreTheSame() {
+        GraphRequest all = request();
+        all.setAwards(List.of("All", "MVP"));
+        GraphRequest empty = request();
+        empty.setAwards(List.of());
+        assertEquals(GraphCacheKey.of(request()), GraphCacheKey.of(all));
+        assertEquals(GraphCacheKey.of(request()), GraphCacheKey.of(empty));
+        assertEquals(List.of(), GraphCacheKey.of(all).awards());
+    }
+
+    @Test
+    void seasonsBecomeASortedSetWithoutNulls() {
+        GraphRequest request = request();
+        request.setYears(Arrays.asList(2024, null, 2022, 2024));
+        assertEquals(List.of(2022, 2024), GraphCacheKey.of(request).years());
+
+        GraphRequest single = request();
+        single.setYear(2023);
+        assertEquals(List.of(2023), GraphCacheKey.of(single).years());
+    }
+
+    @Test
+    void playerOrderIsKept() {
+        GraphRequest first = request();
+        first.setPlayers(List.of("LeBron James", "Stephen Curry"));
+        GraphRequest second = request();
+        second.setPlayers(List.of("Stephen Curry", "LeBron James"));
+        assertNotEquals(GraphCacheKey.of(first), GraphCacheKey.of(second));
+    }
+}
@@ -0,0 +1,97 @@
+package com.nba.service;
+
+import com.nba.store.SeasonData;
+import com.nba.store.SeasonFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static Histogram compute(SeasonData data, Histogram.Strategy strategy, int binCount, Double min, Double max) {
+        return Histogram.compute(data, SeasonFixtures.season(data, 2024), StatAccessor.POINTS, strategy, binCount, min, max);
+    }
+
+    private static SeasonData zeroToNine() {
+        return SeasonFixtures.pointsSeason(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0);
+    }
+
+    @Test
+    void fixedBinsSpanTheDataWithEqualWidths() {
+        Histogram histogram = compute(zeroToNine(), Histogram.Strategy.FIXED, 5, null, null);
+        assertEquals(5, histogram.binCount());
+        assertEquals(0.0, histogram.edge(0), EPSILON);
+        assertEquals(1.8, histogram.edge(1), EPSILON);
+        assertEquals(9.0, histogram.edge(5), EPSILON);
+        assertEquals(List.of(2, 2, 2, 2, 2), histogram.countList());
+        assertEquals(0, histogram.outOfRange());
+    }
+
+    @Test
+    void valuesOutsideTheRequestedRangeAreCountedButNotBinned() {
+        Histogram histogram = compute(zeroToNine(), Histogram.Strategy.FIXED, 3, 2.0, 5.0);
+        assertEquals(List.of(2.0, 3.0, 4.0, 5.0), histogram.edgeList());
+        // The last bin is closed on the right, so 5 lands in it
+        assertEquals(List.of(1, 1, 2), histogram.countList());
+        assertEquals(6, histogram.outOfRange());
+        assertEquals(10, histogram.validRows());
+    }
+
+    @Test
+    void rangeWithoutDataGivesAnEmptyHistogram() {
+        Histogram histogram = compute(zeroToNine(), Histogram.Strategy.FIXED, 3, 20.0, 30.0);
+        assertTrue(histogram.isEmpty());
+        assertEquals(10, histogram.outOfRange());
+    }
+
+    @Test
+    void rowsMissingTheStatAreNotValid() {
+        Histogram histogram = compute(SeasonFixtures.pointsSeason(1.0, null, 3.0), Histogram.Strategy.FIXED, 2, null, null);
+        assertEquals(3, histogram.totalRows());
+        assertEquals(2, histogram.validRows());
+        assertEquals(List.of(1, 1), histogram.countList());
+    }
+
+    @Test
+    void quantileBinsHoldEqualCounts() {
+        Histogram histogram = compute(zeroToNine(), Histogram.Strategy.QUANTILE, 2, null, null);
+        assertEquals(List.of(0.0, 4.5, 9.0), histogram.edgeList());
+        assertEquals(List.of(5, 5), histogram.countList());
+    }
+
+    @Test
+    void sturgesDerivesTheBinCountFromTheRowCount() {
+        // ceil(log2(10)) + 1
+        assertEquals(5, compute(zeroToNine(), Histogram.Strategy.STURGES, 1, null, null).binCount());
+    }
+
+    @Test
+    void tinyInterquartileRangeIsCappedAtMaxBins() {
+        Double[] points = new Double[101];
+        for (int i = 0; i < 100; i++) {
+            points[i] = 5 + i * 1e-4;
+        }
+        points[100] = 1000.0;
+        Histogram histogram = compute(SeasonFixtures.pointsSeason(points), Histogram.Strategy.FREEDMAN_DIACONIS, 10, null, null);
+        assertEquals(Histogram.MAX_BINS, histogram.binCount());
+    }
+
+    @Test
+    void requestedBinCountIsCappedAtMaxBins() {
+        assertEquals(Histogram.MAX_BINS, compute(zeroToNine(), Histogram.Strategy.FIXED, 500, null, null).binCount());
+    }
+
+    @Test
+    void strategyNamesResolveCaseInsensitively() {
+        assertEquals(Histogram.Strategy.FIXED, Histogram.Strategy.resolve(null));
+        assertEquals(Histogram.Strategy.FREEDMAN_DIACONIS, Histogram.Strategy.resolve("FD"));
+        assertEquals(Histogram.Strategy.QUANTILE, Histogram.Strategy.resolve("quantile"));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.Strategy.resolve("log"));
+    }
+}
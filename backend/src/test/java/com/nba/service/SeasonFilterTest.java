@@ -0,0 +1,95 @@
+package com.nba.service;
+
+import com.nba.dto.GraphRequest;
+import com.nba.store.RowList;
+import com.nba.store.SeasonData;
+import com.nba.store.SeasonFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeasonFilterTest {
+
+    private final SeasonData data = SeasonFixtures.tradedSeason();
+
+    private GraphRequest request() {
+        GraphRequest request = new GraphRequest();
+        request.setIncludeMultiTeamPlayers(true);
+        return request;
+    }
+
+    // "player/team" of every 2024 row the filter selects
+    private TreeSet<String> select(GraphRequest request) {
+        RowList rows = new RowList();
+        SeasonFilter.compile(data, request).select(data, data.seasonStart(2024), data.seasonEnd(2024), rows);
+        TreeSet<String> selected = new TreeSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            selected.add(data.player(rows.get(i)) + "/" + data.team(rows.get(i)));
+        }
+        return selected;
+    }
+
+    @Test
+    void tradedPlayerCountsOnceThroughHisTotalWhenMultiTeamPlayersAreIncluded() {
+        assertEquals(new TreeSet<>(List.of("Alpha Traded/2TM", "Beta Single/LAL", "Gamma Bench/BOS", "Delta Free Agent/null")),
+            select(request()));
+    }
+
+    @Test
+    void tradedPlayerContributesHisTeamRowsWhenMultiTeamPlayersAreExcluded() {
+        GraphRequest request = request();
+        request.setIncludeMultiTeamPlayers(false);
+        assertEquals(new TreeSet<>(List.of("Alpha Traded/BOS", "Alpha Traded/LAL", "Beta Single/LAL", "Gamma Bench/BOS",
+            "Delta Free Agent/null")), select(request));
+    }
+
+    @Test
+    void teamFilterMatchesTeamRowsOnly() {
+        GraphRequest request = request();
+        request.setIncludeMultiTeamPlayers(false);
+        request.setTeamsFilter(List.of("LAL"));
+        assertEquals(new TreeSet<>(List.of("Alpha Traded/LAL", "Beta Single/LAL")), select(request));
+    }
+
+    @Test
+    void allEmptyNullAndBlankEntriesLeaveFiltersOff() {
+        TreeSet<String> everyone = select(request());
+        for (List<String> values : List.of(List.of("All"), List.<String>of(), Arrays.asList((String) null), List.of(" "))) {
+            GraphRequest request = request();
+            request.setPositions(values);
+            request.setTeamsFilter(values);
+            request.setAgeRange(values);
+            request.setAwards(values);
+            assertEquals(everyone, select(request), "filters " + values);
+        }
+    }
+
+    @Test
+    void nullAndInvalidAgesAreSkipped() {
+        GraphRequest request = request();
+        request.setAgeRange(new ArrayList<>(Arrays.asList(null, "abc", "22")));
+        assertEquals(new TreeSet<>(List.of("Gamma Bench/BOS")), select(request));
+    }
+
+    @Test
+    void unknownValuesMatchNothing() {
+        GraphRequest request = request();
+        request.setPositions(List.of("XX"));
+        assertEquals(new TreeSet<>(), select(request));
+    }
+
+    @Test
+    void minimumGamesAndMinutesAreInclusiveThresholds() {
+        GraphRequest request = request();
+        request.setMinGamesPlayed(10);
+        assertEquals(new TreeSet<>(List.of("Alpha Traded/2TM", "Beta Single/LAL", "Delta Free Agent/null")), select(request));
+
+        request.setMinMinutesPerGame(20);
+        assertEquals(new TreeSet<>(List.of("Alpha Traded/2TM", "Beta Single/LAL")), select(request));
+    }
+}
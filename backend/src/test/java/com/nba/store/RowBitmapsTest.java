@@ -0,0 +1,47 @@
+package com.nba.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowBitmapsTest {
+
+    private final SeasonData data = SeasonFixtures.tradedSeason();
+    private final RowBitmaps bitmaps = data.bitmaps();
+
+    @Test
+    void tradedPlayerIsCanonicalOnlyThroughHisMultiTeamTotal() {
+        BitSet canonical = bitmaps.canonical();
+        assertTrue(canonical.get(SeasonFixtures.rowOf(data, "Alpha Traded", 2024, "2TM")));
+        assertFalse(canonical.get(SeasonFixtures.rowOf(data, "Alpha Traded", 2024, "BOS")));
+        assertFalse(canonical.get(SeasonFixtures.rowOf(data, "Alpha Traded", 2024, "LAL")));
+    }
+
+    @Test
+    void everyPlayerSeasonHasExactlyOneCanonicalRow() {
+        // Alpha, Beta, Gamma and Delta in 2024, Beta in 2023
+        assertEquals(5, bitmaps.canonical().cardinality());
+        assertTrue(bitmaps.canonical().get(SeasonFixtures.rowOf(data, "Delta Free Agent", 2024, null)));
+    }
+
+    @Test
+    void perTeamRowsLeaveOutTheMultiTeamTotal() {
+        BitSet perTeam = bitmaps.perTeam();
+        assertFalse(perTeam.get(SeasonFixtures.rowOf(data, "Alpha Traded", 2024, "2TM")));
+        assertTrue(perTeam.get(SeasonFixtures.rowOf(data, "Alpha Traded", 2024, "BOS")));
+        assertTrue(perTeam.get(SeasonFixtures.rowOf(data, "Alpha Traded", 2024, "LAL")));
+        assertEquals(data.rowCount() - 1, perTeam.cardinality());
+    }
+
+    @Test
+    void teamAndAgeBitmapsIndexRows() {
+        BitSet lakers = bitmaps.team(data.teamCodeOf("LAL"));
+        assertEquals(3, lakers.cardinality());
+        assertEquals(3, bitmaps.age(25).cardinality());
+        assertTrue(bitmaps.age(99).isEmpty());
+    }
+}
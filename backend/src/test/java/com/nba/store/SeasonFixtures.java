@@ -0,0 +1,70 @@
+package com.nba.store;
+
+import com.nba.entity.PlayerStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Small hand-made seasons for unit tests
+public final class SeasonFixtures {
+
+    private SeasonFixtures() {
+    }
+
+    // 2024: Alpha Traded has a 2TM total plus his BOS and LAL rows; Beta Single, Gamma Bench and Delta
+    // Free Agent (no team) have one row each. 2023: Beta Single only.
+    public static SeasonData tradedSeason() {
+        List<PlayerStats> rows = new ArrayList<>();
+        rows.add(row("Alpha Traded", 2024, "2TM", "SG", 25, 60, 30.0, 20.0));
+        rows.add(row("Alpha Traded", 2024, "BOS", "SG", 25, 30, 29.0, 18.0));
+        rows.add(row("Alpha Traded", 2024, "LAL", "SG", 25, 30, 31.0, 22.0));
+        rows.add(row("Beta Single", 2024, "LAL", "C", 30, 70, 20.0, 10.0));
+        rows.add(row("Gamma Bench", 2024, "BOS", "PG", 22, 5, 5.0, 2.0));
+        rows.add(row("Delta Free Agent", 2024, null, "SF", 28, 10, 12.0, 5.0));
+        rows.add(row("Beta Single", 2023, "LAL", "C", 29, 65, 19.0, 8.0));
+        return SeasonData.of(rows);
+    }
+
+    // One 2024 row per value, scoring that many points (null: points missing)
+    public static SeasonData pointsSeason(Double... points) {
+        List<PlayerStats> rows = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            rows.add(row("Player " + i, 2024, "BOS", "SG", 25, 50, 25.0, points[i]));
+        }
+        return SeasonData.of(rows);
+    }
+
+    // Every row of a season, in row order
+    public static RowList season(SeasonData data, int year) {
+        RowList rows = new RowList();
+        for (int row = data.seasonStart(year); row < data.seasonEnd(year); row++) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    public static PlayerStats row(String player, int year, String team, String position, Integer age,
+                                  Integer gamesPlayed, Double minutesPerGame, Double points) {
+        PlayerStats stats = new PlayerStats();
+        stats.setPlayer(player);
+        stats.setYear(year);
+        stats.setTeam(team);
+        stats.setPosition(position);
+        stats.setAge(age);
+        stats.setGamesPlayed(gamesPlayed);
+        stats.setMinutesPerGame(minutesPerGame);
+        stats.setPoints(points);
+        return stats;
+    }
+
+    // The single row of a player's season with the given team (null: the row without a team)
+    public static int rowOf(SeasonData data, String player, int year, String team) {
+        for (int row = data.seasonStart(year); row < data.seasonEnd(year); row++) {
+            if (data.player(row).equals(player) && Objects.equals(data.team(row), team)) {
+                return row;
+            }
+        }
+        throw new IllegalArgumentException("No row for " + player + " " + year + " " + team);
+    }
+}
@@ -418,7 +418,7 @@ const GraphDisplay = ({ graphData, template }) => {
             <strong>Records Processed:</strong> {graphData.metadata.performance.totalRecordsProcessed.toLocaleString()}
           </div>
           <div className="performance-item">
-            <strong>SQL Queries:</strong> {graphData.metadata.performance.sqlQueriesCount}
+            <strong>Rows Scanned:</strong> {graphData.metadata.performance.rowsScanned.toLocaleString()}
           </div>
         </div>
       )}